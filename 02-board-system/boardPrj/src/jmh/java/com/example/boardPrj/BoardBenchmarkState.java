@@ -0,0 +1,98 @@
+package com.example.boardPrj;
+
+import com.example.boardPrj.service.BoardSearchService;
+import com.example.boardPrj.service.LikeCounter;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크 공용 상태
+ * - H2 인메모리 DB(MySQL 모드)로 애플리케이션 컨텍스트를 띄우고 boardCount 건의 게시글을 적재
+ * - 게시글 10건당 하나꼴로 좋아요 3개씩 적재
+ */
+@State(Scope.Benchmark)
+public class BoardBenchmarkState {
+
+    private static final int INSERT_BATCH = 1000;
+
+    @Param({"1000", "100000"})
+    public int boardCount;
+
+    public ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BoardPrjApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:board_bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.sql.init.mode=always",
+                        "board.search.index-path=build/jmh-data/board-search.idx",
+                        "logging.level.root=WARN")
+                .run();
+
+        seed(context.getBean(JdbcTemplate.class));
+
+        // 적재한 데이터 기준으로 메모리 구조 재구성
+        context.getBean(LikeCounter.class).rebuild();
+        context.getBean(BoardSearchService.class).rebuild();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.getBean(JdbcTemplate.class).execute("DROP ALL OBJECTS");
+        context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        LocalDateTime base = LocalDateTime.now().minusDays(365);
+        List<Object[]> boards = new ArrayList<>(INSERT_BATCH);
+        for (int i = 1; i <= boardCount; i++) {
+            boards.add(new Object[]{
+                    "벤치마크 게시글 " + i,
+                    "스프링 부트와 MyBatis 로 만든 게시판의 " + i + "번째 본문입니다. ".repeat(10),
+                    "writer" + (i % 100),
+                    Timestamp.valueOf(base.plusSeconds(i * 30L))
+            });
+            if (boards.size() == INSERT_BATCH || i == boardCount) {
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO board (title, content, writer, created_at) VALUES (?, ?, ?, ?)", boards);
+                boards.clear();
+            }
+        }
+
+        List<Object[]> likes = new ArrayList<>(INSERT_BATCH);
+        for (long boardId = 1; boardId <= boardCount; boardId += 10) {
+            for (int u = 0; u < 3; u++) {
+                likes.add(new Object[]{boardId, "172.16.0." + u});
+            }
+            if (likes.size() >= INSERT_BATCH) {
+                jdbcTemplate.batchUpdate("INSERT INTO board_like (board_id, user_ip) VALUES (?, ?)", likes);
+                likes.clear();
+            }
+        }
+        if (!likes.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO board_like (board_id, user_ip) VALUES (?, ?)", likes);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.boardPrj.controller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BoardController.getClientIp 벤치마크 (DB 불필요)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ClientIpBenchmark {
+
+    private MockHttpServletRequest forwarded;
+    private MockHttpServletRequest realIp;
+    private MockHttpServletRequest direct;
+
+    @Setup
+    public void setUp() {
+        forwarded = new MockHttpServletRequest();
+        forwarded.addHeader("X-Forwarded-For", "203.0.113.7, 10.0.0.1, 10.0.0.2");
+
+        realIp = new MockHttpServletRequest();
+        realIp.addHeader("X-Real-IP", "203.0.113.8");
+
+        direct = new MockHttpServletRequest();
+        direct.setRemoteAddr("0:0:0:0:0:0:0:1");
+    }
+
+    @Benchmark
+    public String forwardedFor() {
+        return BoardController.getClientIp(forwarded);
+    }
+
+    @Benchmark
+    public String realIp() {
+        return BoardController.getClientIp(realIp);
+    }
+
+    @Benchmark
+    public String remoteAddr() {
+        return BoardController.getClientIp(direct);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.boardPrj.controller;
+
+import com.example.boardPrj.BoardBenchmarkState;
+import com.example.boardPrj.dto.BoardCursor;
+import com.example.boardPrj.dto.BoardPageDTO;
+import com.example.boardPrj.service.BoardService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.web.IWebExchange;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * board/list.html 렌더링 벤치마크
+ * - 한 페이지(20건) 목록을 Thymeleaf 로 렌더링 (DB 조회 제외)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ListTemplateBenchmark {
+
+    private TemplateEngine templateEngine;
+    private IWebExchange exchange;
+    private Map<String, Object> variables;
+
+    @Setup(Level.Trial)
+    public void setUp(BoardBenchmarkState state) {
+        templateEngine = state.bean(TemplateEngine.class);
+
+        BoardService boardService = state.bean(BoardService.class);
+        String cursor = BoardCursor.from(boardService.getBoardById((long) state.boardCount / 2)).encode();
+        BoardPageDTO page = boardService.getBoardPage(cursor, 20);
+        variables = Map.of("boards", page.getBoards(), "page", page);
+
+        MockServletContext servletContext = new MockServletContext();
+        MockHttpServletRequest request = new MockHttpServletRequest(servletContext, "GET", "/board");
+        request.setParameter("cursor", cursor);
+        exchange = JakartaServletWebApplication.buildApplication(servletContext)
+                .buildExchange(request, new MockHttpServletResponse());
+    }
+
+    @Benchmark
+    public String renderList() {
+        WebContext context = new WebContext(exchange, Locale.KOREAN, variables);
+        return templateEngine.process("board/list", context);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.boardPrj.service;
+
+import com.example.boardPrj.BoardBenchmarkState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 좋아요 토글/조회 벤치마크
+ * - 스레드마다 다른 IP 로 무작위 게시글 토글
+ * - hotBoard: 모든 스레드가 같은 게시글을 토글 (인기 게시글 경합)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class BoardLikeBenchmark {
+
+    private static final AtomicInteger THREAD_SEQ = new AtomicInteger();
+
+    @State(Scope.Thread)
+    public static class UserState {
+
+        BoardLikeService boardLikeService;
+        String userIp;
+        int boardCount;
+
+        @Setup(Level.Trial)
+        public void setUp(BoardBenchmarkState state) {
+            boardLikeService = state.bean(BoardLikeService.class);
+            boardCount = state.boardCount;
+            userIp = "10.1.0." + THREAD_SEQ.incrementAndGet();
+        }
+
+        long randomBoard() {
+            return ThreadLocalRandom.current().nextLong(1, boardCount + 1);
+        }
+    }
+
+    @Benchmark
+    public boolean toggleLike(UserState user) {
+        return user.boardLikeService.toggleLike(user.randomBoard(), user.userIp);
+    }
+
+    @Benchmark
+    public boolean toggleLikeHotBoard(UserState user) {
+        return user.boardLikeService.toggleLike(1L, user.userIp);
+    }
+
+    @Benchmark
+    public boolean isLikedByUser(UserState user) {
+        return user.boardLikeService.isLikedByUser(user.randomBoard(), user.userIp);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.boardPrj.service;
+
+import com.example.boardPrj.BoardBenchmarkState;
+import com.example.boardPrj.dto.BoardCursor;
+import com.example.boardPrj.dto.BoardDTO;
+import com.example.boardPrj.dto.BoardPageDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록/상세 조회 벤치마크
+ * - getAllBoards (전체 조회) vs getBoardPage (키셋 페이징)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BoardServiceBenchmark {
+
+    private BoardService boardService;
+    private String middleCursor;
+    private int boardCount;
+
+    @Setup(Level.Trial)
+    public void setUp(BoardBenchmarkState state) {
+        boardService = state.bean(BoardService.class);
+        boardCount = state.boardCount;
+
+        // 목록 중간 지점 커서 (첫 페이지는 MySQL 전용 추정 건수 쿼리를 쓰므로 제외)
+        BoardDTO middle = boardService.getBoardById((long) boardCount / 2);
+        middleCursor = BoardCursor.from(middle).encode();
+    }
+
+    @Benchmark
+    public List<BoardDTO> getAllBoards() {
+        return boardService.getAllBoards();
+    }
+
+    @Benchmark
+    public BoardPageDTO getBoardPage() {
+        return boardService.getBoardPage(middleCursor, 20);
+    }
+
+    @Benchmark
+    public BoardDTO getBoardById() {
+        long id = ThreadLocalRandom.current().nextLong(1, boardCount + 1);
+        return boardService.getBoardById(id);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.boardPrj.config;
+
+import org.apache.ibatis.mapping.DatabaseIdProvider;
+import org.apache.ibatis.mapping.VendorDatabaseIdProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Properties;
+
+/**
+ * MyBatis 설정
+ * - DB 종류별 databaseId 등록 (mapper XML 에서 DB 전용 구문을 나눌 때 사용)
+ * - databaseId 를 지정하지 않은 구문은 모든 DB 에서 공통으로 사용됨
+ */
+@Configuration
+public class MyBatisConfig {
+
+    @Bean
+    public DatabaseIdProvider databaseIdProvider() {
+        Properties vendors = new Properties();
+        vendors.setProperty("MySQL", "mysql");
+        vendors.setProperty("H2", "h2");
+
+        VendorDatabaseIdProvider provider = new VendorDatabaseIdProvider();
+        provider.setProperties(vendors);
+        return provider;
+    }
+}
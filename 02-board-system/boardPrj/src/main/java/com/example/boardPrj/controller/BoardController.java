@@ -1,9 +1,14 @@
 package com.example.boardPrj.controller;
 
 import com.example.boardPrj.dto.BoardDTO;
+import com.example.boardPrj.dto.BoardPageDTO;
+import com.example.boardPrj.dto.BoardSearchResultDTO;
+import com.example.boardPrj.service.BoardExportService;
 import com.example.boardPrj.service.BoardLikeService;
+import com.example.boardPrj.service.BoardSearchService;
 import com.example.boardPrj.service.BoardService;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -13,8 +18,8 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.io.IOException;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 @Controller
@@ -25,15 +30,46 @@ public class BoardController {
 
     private final BoardService boardService;
     private final BoardLikeService boardLikeService;
+    private final BoardExportService boardExportService;
+    private final BoardSearchService boardSearchService;
 
-    // 게시글 목록 페이지
+    // 게시글 목록 페이지 (커서 기반 페이징)
     @GetMapping
-    public String boardList(Model model) {
-        List<BoardDTO> boards = boardService.getAllBoards();
-        model.addAttribute("boards", boards);
+    public String boardList(@RequestParam(required = false) String cursor,
+                            @RequestParam(defaultValue = "20") int size,
+                            Model model) {
+        BoardPageDTO page = boardService.getBoardPage(cursor, size);
+        model.addAttribute("boards", page.getBoards());
+        model.addAttribute("page", page);
         return "board/list";
     }
 
+    // 게시글 검색 페이지
+    @GetMapping("/search")
+    public String searchBoards(@RequestParam(defaultValue = "") String q,
+                               @RequestParam(defaultValue = "0") int page,
+                               @RequestParam(defaultValue = "20") int size,
+                               Model model) {
+        BoardSearchResultDTO result = boardSearchService.search(q, page, size);
+        model.addAttribute("result", result);
+        return "board/search";
+    }
+
+    // 게시글 전체 내보내기 (format=ndjson | csv)
+    @GetMapping("/export")
+    public void exportBoards(@RequestParam(defaultValue = "ndjson") String format,
+                             HttpServletResponse response) throws IOException {
+        if ("csv".equalsIgnoreCase(format)) {
+            response.setContentType("text/csv; charset=UTF-8");
+            response.setHeader("Content-Disposition", "attachment; filename=\"boards.csv\"");
+            boardExportService.exportCsv(response.getOutputStream());
+        } else {
+            response.setContentType("application/x-ndjson; charset=UTF-8");
+            response.setHeader("Content-Disposition", "attachment; filename=\"boards.ndjson\"");
+            boardExportService.exportNdjson(response.getOutputStream());
+        }
+    }
+
     // 게시글 상세 페이지
     @GetMapping("/{id}")
     public String boardDetail(@PathVariable Long id, Model model, HttpServletRequest request) {
@@ -106,16 +142,16 @@ public class BoardController {
     @ResponseBody
     public ResponseEntity<Map<String, Object>> toggleLike(@PathVariable Long id, HttpServletRequest request) {
         try {
-            log.info("좋아요 요청 - boardId: {}", id);
+            log.debug("좋아요 요청 - boardId: {}", id);
 
             String userIp = getClientIp(request);
-            log.info("사용자 IP: {}", userIp);
+            log.debug("사용자 IP: {}", userIp);
 
             // 이 부분이 중요! toggleLike 메서드를 호출해야 함
             boolean isLiked = boardLikeService.toggleLike(id, userIp);
             int likeCount = boardLikeService.getLikeCount(id);
 
-            log.info("좋아요 결과 - isLiked: {}, likeCount: {}", isLiked, likeCount);
+            log.debug("좋아요 결과 - isLiked: {}, likeCount: {}", isLiked, likeCount);
 
             Map<String, Object> result = new HashMap<>();
             result.put("isLiked", isLiked);
@@ -123,6 +159,15 @@ public class BoardController {
 
             return ResponseEntity.ok(result);
 
+        } catch (IllegalArgumentException e) {
+            log.warn("좋아요 처리 실패 - {}", e.getMessage());
+
+            Map<String, Object> errorResult = new HashMap<>();
+            errorResult.put("error", true);
+            errorResult.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResult);
+
         } catch (Exception e) {
             log.error("좋아요 처리 중 오류 발생", e);
 
@@ -134,8 +179,8 @@ public class BoardController {
         }
     }
 
-    // 클라이언트 IP 주소 추출
-    private String getClientIp(HttpServletRequest request) {
+    // 클라이언트 IP 주소 추출 (벤치마크에서 직접 호출하도록 package-private)
+    static String getClientIp(HttpServletRequest request) {
         String xfHeader = request.getHeader("X-Forwarded-For");
         if (xfHeader != null && !xfHeader.isEmpty() && !"unknown".equalsIgnoreCase(xfHeader)) {
             return xfHeader.split(",")[0].trim();
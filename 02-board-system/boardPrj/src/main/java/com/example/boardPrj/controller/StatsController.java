@@ -0,0 +1,70 @@
+package com.example.boardPrj.controller;
+
+import com.example.boardPrj.monitoring.SqlTimingInterceptor;
+import com.example.boardPrj.service.BoardDetailCache;
+import com.example.boardPrj.service.LikeCountReconciler;
+import com.example.boardPrj.service.LikeMembershipIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 운영 지표 조회용 컨트롤러 (JSON)
+ */
+@RestController
+@RequestMapping("/stats")
+@RequiredArgsConstructor
+public class StatsController {
+
+    private final BoardDetailCache boardDetailCache;
+    private final LikeMembershipIndex likeMembershipIndex;
+    private final LikeCountReconciler likeCountReconciler;
+    private final SqlTimingInterceptor sqlTimingInterceptor;
+
+    // 게시글 상세 캐시 히트/미스/제거 통계
+    @GetMapping("/board-cache")
+    public Map<String, Object> boardCacheStats() {
+        return boardDetailCache.stats();
+    }
+
+    // 좋아요 사용자 인덱스 메모리/히트율 통계
+    @GetMapping("/like-index")
+    public Map<String, Object> likeIndexStats() {
+        return likeMembershipIndex.stats();
+    }
+
+    // 좋아요 수 보정 작업 진행 상황
+    @GetMapping("/like-reconcile")
+    public Map<String, Object> likeReconcileProgress() {
+        return likeCountReconciler.progress();
+    }
+
+    // 좋아요 수 보정 작업 시작 (이미 실행 중이면 409)
+    @PostMapping("/like-reconcile")
+    public ResponseEntity<Map<String, Object>> startLikeReconcile() {
+        if (!likeCountReconciler.start()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(likeCountReconciler.progress());
+        }
+        return ResponseEntity.accepted().body(likeCountReconciler.progress());
+    }
+
+    // 매퍼 statement 별 SQL 실행 시간 통계
+    @GetMapping("/sql")
+    public Map<String, Object> sqlStats() {
+        return sqlTimingInterceptor.stats();
+    }
+
+    // SQL 통계 초기화
+    @DeleteMapping("/sql")
+    public ResponseEntity<Void> resetSqlStats() {
+        sqlTimingInterceptor.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.boardPrj.dto;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 키셋 페이징 커서
+ * - (created_at, id) 쌍을 URL 안전한 Base64 토큰으로 인코딩
+ * - OFFSET 없이 마지막으로 본 행 다음부터 조회하기 위해 사용
+ */
+@Getter
+public class BoardCursor {
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public BoardCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    // 목록의 마지막 게시글로부터 다음 페이지 커서 생성
+    public static BoardCursor from(BoardDTO board) {
+        return new BoardCursor(board.getCreatedAt(), board.getId());
+    }
+
+    // 토큰 인코딩 ("2024-01-01T12:00:00|15" → Base64)
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 토큰 디코딩 - 비어 있거나 잘못된 토큰이면 null (첫 페이지부터 조회)
+    public static BoardCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            if (sep < 0) {
+                return null;
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, sep));
+            Long id = Long.parseLong(raw.substring(sep + 1));
+            return new BoardCursor(createdAt, id);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
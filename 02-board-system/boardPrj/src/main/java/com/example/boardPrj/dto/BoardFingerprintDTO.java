@@ -0,0 +1,14 @@
+package com.example.boardPrj.dto;
+
+import lombok.Data;
+
+/**
+ * board 테이블 지문 (검색 색인 파일이 최신인지 비교용)
+ */
+@Data
+public class BoardFingerprintDTO {
+
+    private long count;         // 게시글 수
+    private long maxId;         // 최대 게시글 ID
+    private Long checksum;      // 게시글별 CRC32(title|content|writer) 합 (계산할 수 없는 DB 면 null)
+}
@@ -0,0 +1,18 @@
+package com.example.boardPrj.dto;
+
+import lombok.Data;
+
+@Data
+public class BoardLikeCountDTO {
+
+    private Long boardId;       // 게시글 ID
+    private int likeCount;      // board_like 기준 실제 좋아요 수
+    private int storedCount;    // board.like_count 에 저장된 값
+
+    public BoardLikeCountDTO(){};
+
+    public BoardLikeCountDTO(Long boardId, int likeCount){
+        this.boardId = boardId;
+        this.likeCount = likeCount;
+    }
+}
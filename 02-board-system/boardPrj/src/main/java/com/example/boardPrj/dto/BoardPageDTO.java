@@ -0,0 +1,26 @@
+package com.example.boardPrj.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 게시글 목록 한 페이지 (키셋 페이징 결과)
+ */
+@Data
+public class BoardPageDTO {
+
+    private List<BoardDTO> boards;     // 현재 페이지 게시글 (content 제외)
+    private String nextCursor;         // 다음 페이지 커서 토큰 (없으면 null)
+    private boolean hasNext;           // 다음 페이지 존재 여부
+    private int size;                  // 페이지 크기
+    private Long approximateTotal;     // 대략적인 전체 게시글 수 (첫 페이지에서만 조회)
+
+    public BoardPageDTO(List<BoardDTO> boards, String nextCursor, boolean hasNext, int size, Long approximateTotal) {
+        this.boards = boards;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+        this.size = size;
+        this.approximateTotal = approximateTotal;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.boardPrj.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 게시글 검색 결과 한 페이지
+ */
+@Data
+public class BoardSearchResultDTO {
+
+    private String query;           // 검색어
+    private List<BoardDTO> boards;  // 현재 페이지 게시글 (점수 순, content 제외)
+    private int totalHits;          // 전체 매칭 게시글 수
+    private int page;               // 현재 페이지 (0부터)
+    private int size;               // 페이지 크기
+    private boolean hasNext;        // 다음 페이지 존재 여부
+    private long tookMicros;        // 검색 소요 시간 (μs)
+
+    public BoardSearchResultDTO(String query, List<BoardDTO> boards, int totalHits, int page, int size, long tookMicros) {
+        this.query = query;
+        this.boards = boards;
+        this.totalHits = totalHits;
+        this.page = page;
+        this.size = size;
+        this.hasNext = (long) (page + 1) * size < totalHits;
+        this.tookMicros = tookMicros;
+    }
+}
@@ -1,8 +1,12 @@
 package com.example.boardPrj.mapper;
 
+import com.example.boardPrj.dto.BoardLikeCountDTO;
 import com.example.boardPrj.dto.BoardLikeDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+
+import java.util.List;
 
 @Mapper
 public interface BoardLikeMapper {
@@ -10,12 +14,24 @@ public interface BoardLikeMapper {
     // 좋아요 추가
     int insert(BoardLikeDTO boardLikeDTO);
 
+    // 좋아요 추가 - 이미 좋아요 상태면 DuplicateKeyException, 없는 게시글이면 DataIntegrityViolationException
+    int insertLike(@Param("boardId") Long boardId, @Param("userIp") String userIp);
+
     // 좋아요 취소
     int delete(@Param("boardId") Long boardId, @Param("userIp") String userIp);
 
     // 특정 사용자의 좋아요 여부 확인
     int existsByBoardIdAndUserIp(@Param("boardId") Long boardId, @Param("userIp") String userIp);
 
+    // 게시글에 좋아요를 누른 사용자 IP 목록 (좋아요 인덱스 적재용)
+    List<String> findUserIpsByBoardId(Long boardId);
+
     // 게시글의 총 좋아요 수 조회
     int countByBoardId(Long boardId);
+
+    // 게시글별 좋아요 수 집계 (좋아요 카운터 재구성용)
+    List<BoardLikeCountDTO> countGroupByBoardId();
+
+    // 게시글 ID 구간별 좋아요 수 / 저장된 like_count 스트리밍 조회 (보정 작업용)
+    Cursor<BoardLikeCountDTO> scanLikeCounts(@Param("fromId") long fromId, @Param("toId") long toId);
 }
@@ -1,9 +1,13 @@
 package com.example.boardPrj.mapper;
 
 import com.example.boardPrj.dto.BoardDTO;
+import com.example.boardPrj.dto.BoardFingerprintDTO;
+import com.example.boardPrj.dto.BoardLikeCountDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
@@ -12,6 +16,17 @@ public interface BoardMapper {
     // 전체 게시글 조회
     List<BoardDTO> findAll();
 
+    // 게시글 목록 키셋 페이징 조회 (content 제외, 커서가 null이면 첫 페이지)
+    List<BoardDTO> findPage(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                            @Param("cursorId") Long cursorId,
+                            @Param("limit") int limit);
+
+    // 전체 게시글 스트리밍 조회 (내보내기용)
+    Cursor<BoardDTO> streamAll();
+
+    // 여러 게시글 조회 (검색 결과용, content 제외)
+    List<BoardDTO> findByIds(@Param("ids") List<Long> ids);
+
     // 특정 게시글 조회
     BoardDTO findById(Long id);
 
@@ -27,6 +42,20 @@ public interface BoardMapper {
     // 전체 게시글 수 조회
     int count();
 
-    // 좋아요 수 업데이트
-    int updateLikeCount(@Param("boardId") Long boardId, @Param("likeCount") int likeCount);
+    // 최대 게시글 ID 조회
+    Long findMaxId();
+
+    // 게시글 수 + 최대 ID + 내용 체크섬 (검색 색인 파일 검증용)
+    BoardFingerprintDTO fingerprint();
+
+    // 대략적인 게시글 수 조회 (information_schema 통계, COUNT(*) 스캔 없음)
+    Long approximateCount();
+
+    // 좋아요 수 보정 (저장된 값이 storedCount 그대로일 때만) - 1: 반영, 0: 그 사이 바뀜
+    int updateLikeCountIfUnchanged(@Param("boardId") Long boardId,
+                                   @Param("storedCount") int storedCount,
+                                   @Param("likeCount") int likeCount);
+
+    // 좋아요 수 일괄 업데이트 (CASE 문 한 번으로 여러 게시글 반영)
+    int updateLikeCounts(@Param("counts") List<BoardLikeCountDTO> counts);
 }
@@ -0,0 +1,89 @@
+package com.example.boardPrj.monitoring;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 구간 지연 시간 히스토그램 (lock-free)
+ * - 구간 경계는 μs 단위 1-2.5-5 로그 스케일, 백분위는 구간 상한으로 근사
+ */
+public class LatencyHistogram {
+
+    // 각 구간의 상한 (μs), 마지막 구간은 그 이상 전부
+    private static final long[] BOUNDS_MICROS = {
+            100, 250, 500,
+            1_000, 2_500, 5_000,
+            10_000, 25_000, 50_000,
+            100_000, 250_000, 500_000,
+            1_000_000, 2_500_000, 5_000_000
+    };
+
+    private final LongAdder[] buckets = new LongAdder[BOUNDS_MICROS.length + 1];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long elapsedNanos, boolean error) {
+        long micros = elapsedNanos / 1_000;
+        buckets[bucketOf(micros)].increment();
+        count.increment();
+        totalMicros.add(micros);
+        maxMicros.accumulateAndGet(micros, Math::max);
+        if (error) {
+            errors.increment();
+        }
+    }
+
+    public Map<String, Object> snapshot() {
+        long[] counts = new long[buckets.length];
+        long total = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("count", count.sum());
+        result.put("errors", errors.sum());
+        result.put("avgMs", total == 0 ? 0.0 : totalMicros.sum() / 1_000.0 / total);
+        result.put("maxMs", maxMicros.get() / 1_000.0);
+        result.put("p50Ms", percentile(counts, total, 0.50));
+        result.put("p95Ms", percentile(counts, total, 0.95));
+        result.put("p99Ms", percentile(counts, total, 0.99));
+        return result;
+    }
+
+    private double percentile(long[] counts, long total, double quantile) {
+        if (total == 0) {
+            return 0.0;
+        }
+        long target = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                long bound = i < BOUNDS_MICROS.length ? BOUNDS_MICROS[i] : maxMicros.get();
+                return bound / 1_000.0;
+            }
+        }
+        return maxMicros.get() / 1_000.0;
+    }
+
+    private static int bucketOf(long micros) {
+        for (int i = 0; i < BOUNDS_MICROS.length; i++) {
+            if (micros <= BOUNDS_MICROS[i]) {
+                return i;
+            }
+        }
+        return BOUNDS_MICROS.length;
+    }
+}
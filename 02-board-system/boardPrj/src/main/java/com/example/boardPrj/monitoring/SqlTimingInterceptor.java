@@ -0,0 +1,89 @@
+package com.example.boardPrj.monitoring;
+
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * MyBatis SQL 실행 시간 측정 인터셉터
+ * - 매퍼 statement ID 별로 지연 시간 히스토그램 기록 (항상, 로그 없이)
+ * - 느린 쿼리와 일부 샘플만 "sql.slow" / "sql.sample" 로거로 남김 (logback AsyncAppender 로 비동기 기록)
+ * - queryCursor 는 커서를 여는 시간까지만 측정됨
+ * - mybatis-spring-boot 가 Interceptor 빈을 자동 등록
+ */
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "queryCursor",
+                args = {MappedStatement.class, Object.class, RowBounds.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+public class SqlTimingInterceptor implements Interceptor {
+
+    private static final Logger slowLog = LoggerFactory.getLogger("sql.slow");
+    private static final Logger sampleLog = LoggerFactory.getLogger("sql.sample");
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final long slowThresholdNanos;
+    private final double sampleRate;
+
+    public SqlTimingInterceptor(@Value("${board.sql.slow-threshold-ms:100}") long slowThresholdMs,
+                                @Value("${board.sql.sample-rate:0.001}") double sampleRate) {
+        this.slowThresholdNanos = slowThresholdMs * 1_000_000;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        long start = System.nanoTime();
+        boolean error = false;
+        try {
+            return invocation.proceed();
+        } catch (Throwable t) {
+            error = true;
+            throw t;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            histograms.computeIfAbsent(statement.getId(), id -> new LatencyHistogram()).record(elapsed, error);
+
+            if (elapsed >= slowThresholdNanos) {
+                slowLog.warn("{} {}ms - {}", statement.getId(), elapsed / 1_000_000, sql(statement, invocation));
+            } else if (sampleLog.isInfoEnabled() && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                sampleLog.info("{} {}μs - {}", statement.getId(), elapsed / 1_000, sql(statement, invocation));
+            }
+        }
+    }
+
+    // statement ID 별 통계 (이름순)
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new TreeMap<>();
+        histograms.forEach((id, histogram) -> result.put(id, histogram.snapshot()));
+        return result;
+    }
+
+    public void reset() {
+        histograms.clear();
+    }
+
+    // 실행된 SQL (파라미터 값 제외, 공백 정리)
+    private String sql(MappedStatement statement, Invocation invocation) {
+        return statement.getBoundSql(invocation.getArgs()[1]).getSql().replaceAll("\\s+", " ").trim();
+    }
+}
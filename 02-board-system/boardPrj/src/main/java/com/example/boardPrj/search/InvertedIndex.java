@@ -0,0 +1,300 @@
+package com.example.boardPrj.search;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 역색인 + BM25 점수 계산
+ * - term → 포스팅 (문서 ID 오름차순 long[] + 출현 횟수 int[], 박싱 없음)
+ * - 문서별 term 목록도 보관해서 수정/삭제 시 이전 포스팅을 정확히 제거
+ * - 문서별 원문 지문(fingerprint)을 함께 보관해서 저장된 색인이 DB 와 같은지 비교
+ * - 읽기/쓰기는 ReadWriteLock 으로 보호 (검색은 동시에, 색인 변경은 하나씩)
+ */
+public class InvertedIndex {
+
+    private static final int FILE_VERSION = 2;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, Posting> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private long totalLength;
+    private long checksum;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 문서 추가/교체
+     * @param docId       문서 ID
+     * @param tokens      색인할 토큰
+     * @param fingerprint 원문 지문 (DB 의 같은 행에서 계산한 값과 같아야 함)
+     */
+    public void put(Long docId, List<String> tokens, long fingerprint) {
+        Map<String, Integer> termFreqs = new HashMap<>();
+        for (String token : tokens) {
+            termFreqs.merge(token, 1, Integer::sum);
+        }
+        String[] terms = new String[termFreqs.size()];
+        int[] freqs = new int[termFreqs.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : termFreqs.entrySet()) {
+            terms[i] = entry.getKey();
+            freqs[i] = entry.getValue();
+            i++;
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+            addInternal(docId, new Document(terms, freqs, tokens.size(), fingerprint));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long docId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addInternal(long docId, Document doc) {
+        for (int i = 0; i < doc.terms().length; i++) {
+            postings.computeIfAbsent(doc.terms()[i], t -> new Posting()).put(docId, doc.freqs()[i]);
+        }
+        documents.put(docId, doc);
+        totalLength += doc.length();
+        checksum += doc.fingerprint();
+    }
+
+    private void removeInternal(Long docId) {
+        Document old = documents.remove(docId);
+        if (old == null) {
+            return;
+        }
+        for (String term : old.terms()) {
+            Posting posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(docId);
+                if (posting.size == 0) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= old.length();
+        checksum -= old.fingerprint();
+    }
+
+    /**
+     * BM25 검색
+     * @param queryTokens 질의 토큰
+     * @param offset      건너뛸 결과 수 (매칭 수 이상이면 빈 목록)
+     * @param limit       반환할 결과 수
+     */
+    public SearchHits search(List<String> queryTokens, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            int docCount = documents.size();
+            if (docCount == 0 || queryTokens.isEmpty()) {
+                return new SearchHits(List.of(), 0);
+            }
+            double avgLength = (double) totalLength / docCount;
+
+            Map<Long, Double> scores = new HashMap<>();
+            for (String term : new LinkedHashSet<>(queryTokens)) {
+                Posting posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                int df = posting.size;
+                double idf = Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+                for (int i = 0; i < posting.size; i++) {
+                    long docId = posting.ids[i];
+                    int tf = posting.freqs[i];
+                    double norm = 1 - B + B * documents.get(docId).length() / avgLength;
+                    double score = idf * tf * (K1 + 1) / (tf + K1 * norm);
+                    scores.merge(docId, score, Double::sum);
+                }
+            }
+
+            // 범위 밖 페이지 (offset 이 매칭 수 이상)
+            if (offset >= scores.size()) {
+                return new SearchHits(List.of(), scores.size());
+            }
+
+            // 상위 offset+limit 개만 힙으로 유지 (전체 정렬 없음), 매칭 수를 넘지 않으므로 int 범위
+            int keep = (int) Math.min(offset + limit, scores.size());
+            Comparator<Map.Entry<Long, Double>> byScore = Map.Entry.<Long, Double>comparingByValue()
+                    .thenComparing(Map.Entry.<Long, Double>comparingByKey());
+            PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(byScore);
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                top.offer(entry);
+                if (top.size() > keep) {
+                    top.poll();
+                }
+            }
+
+            List<Map.Entry<Long, Double>> ranked = new ArrayList<>(top);
+            ranked.sort(byScore.reversed());
+            List<Long> ids = new ArrayList<>();
+            for (int i = (int) offset; i < ranked.size(); i++) {
+                ids.add(ranked.get(i).getKey());
+            }
+            return new SearchHits(ids, scores.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 색인 내용의 지문 (문서 수, 최대 ID, 문서별 지문 합) - DB 의 같은 집계와 비교해서 최신 여부 판단
+    public Fingerprint fingerprint() {
+        lock.readLock().lock();
+        try {
+            long maxId = 0;
+            for (Long docId : documents.keySet()) {
+                maxId = Math.max(maxId, docId);
+            }
+            return new Fingerprint(documents.size(), maxId, checksum);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 파일 저장 - 문서별 term 목록만 ID 순으로 기록 (포스팅은 읽을 때 뒤에 붙이기만 하면 정렬 상태로 재구성)
+    public void writeTo(DataOutputStream out) throws IOException {
+        lock.readLock().lock();
+        try {
+            long[] docIds = new long[documents.size()];
+            int n = 0;
+            for (Long docId : documents.keySet()) {
+                docIds[n++] = docId;
+            }
+            Arrays.sort(docIds);
+
+            out.writeInt(FILE_VERSION);
+            out.writeInt(docIds.length);
+            for (long docId : docIds) {
+                Document doc = documents.get(docId);
+                out.writeLong(docId);
+                out.writeInt(doc.length());
+                out.writeLong(doc.fingerprint());
+                out.writeInt(doc.terms().length);
+                for (int i = 0; i < doc.terms().length; i++) {
+                    out.writeUTF(doc.terms()[i]);
+                    out.writeInt(doc.freqs()[i]);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static InvertedIndex readFrom(DataInputStream in) throws IOException {
+        int version = in.readInt();
+        if (version != FILE_VERSION) {
+            throw new IOException("지원하지 않는 색인 파일 버전: " + version);
+        }
+        InvertedIndex index = new InvertedIndex();
+        int docCount = in.readInt();
+        for (int i = 0; i < docCount; i++) {
+            long docId = in.readLong();
+            int length = in.readInt();
+            long fingerprint = in.readLong();
+            int termCount = in.readInt();
+            String[] terms = new String[termCount];
+            int[] freqs = new int[termCount];
+            for (int j = 0; j < termCount; j++) {
+                terms[j] = in.readUTF();
+                freqs[j] = in.readInt();
+            }
+            index.addInternal(docId, new Document(terms, freqs, length, fingerprint));
+        }
+        return index;
+    }
+
+    /**
+     * 검색 결과 (현재 페이지 문서 ID + 전체 매칭 수)
+     */
+    public record SearchHits(List<Long> ids, int totalHits) {
+    }
+
+    /**
+     * 색인 지문 (문서 수, 최대 문서 ID, 문서별 지문 합)
+     */
+    public record Fingerprint(long count, long maxId, long checksum) {
+    }
+
+    // 문서별 term 목록과 출현 횟수 (같은 순서), 토큰 수, 원문 지문
+    private record Document(String[] terms, int[] freqs, int length, long fingerprint) {
+    }
+
+    /**
+     * 포스팅 - 문서 ID 오름차순 배열
+     * - 새 게시글은 ID 가 가장 크므로 대부분 끝에 붙음 (복사 없음)
+     * - 수정/삭제만 이진 탐색 후 배열 중간을 당김
+     */
+    private static final class Posting {
+
+        private long[] ids = new long[4];
+        private int[] freqs = new int[4];
+        private int size;
+
+        void put(long docId, int freq) {
+            if (size > 0 && ids[size - 1] < docId) {
+                insertAt(size, docId, freq);
+                return;
+            }
+            int pos = Arrays.binarySearch(ids, 0, size, docId);
+            if (pos >= 0) {
+                freqs[pos] = freq;
+                return;
+            }
+            insertAt(-pos - 1, docId, freq);
+        }
+
+        private void insertAt(int at, long docId, int freq) {
+            if (size == ids.length) {
+                int capacity = size + (size >> 1) + 1;
+                ids = Arrays.copyOf(ids, capacity);
+                freqs = Arrays.copyOf(freqs, capacity);
+            }
+            System.arraycopy(ids, at, ids, at + 1, size - at);
+            System.arraycopy(freqs, at, freqs, at + 1, size - at);
+            ids[at] = docId;
+            freqs[at] = freq;
+            size++;
+        }
+
+        void remove(long docId) {
+            int pos = Arrays.binarySearch(ids, 0, size, docId);
+            if (pos < 0) {
+                return;
+            }
+            System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+            System.arraycopy(freqs, pos + 1, freqs, pos, size - pos - 1);
+            size--;
+        }
+    }
+}
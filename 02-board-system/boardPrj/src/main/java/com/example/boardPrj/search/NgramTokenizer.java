@@ -0,0 +1,64 @@
+package com.example.boardPrj.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색용 토크나이저
+ * - 한글/한자/가나: 형태소 분석 없이 2-gram (한 글자 단어는 그대로)
+ * - 영문/숫자: 공백·구두점 기준 단어, 소문자 변환
+ * 예) "스프링 부트 Board" → [스프, 프링, 부트, board]
+ */
+public final class NgramTokenizer {
+
+    private NgramTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        StringBuilder word = new StringBuilder();
+        boolean cjk = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            if (!Character.isLetterOrDigit(c)) {
+                flush(word, cjk, tokens);
+                continue;
+            }
+            boolean charCjk = isCjk(c);
+            // 한글과 영문이 붙어 있으면 ("스프링boot") 서로 다른 단어로 분리
+            if (word.length() > 0 && charCjk != cjk) {
+                flush(word, cjk, tokens);
+            }
+            cjk = charCjk;
+            word.append(c);
+        }
+        flush(word, cjk, tokens);
+        return tokens;
+    }
+
+    private static void flush(StringBuilder word, boolean cjk, List<String> tokens) {
+        if (word.length() == 0) {
+            return;
+        }
+        if (!cjk || word.length() == 1) {
+            tokens.add(word.toString());
+        } else {
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        word.setLength(0);
+    }
+
+    private static boolean isCjk(char c) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(c);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.boardPrj.service;
+
+import com.example.boardPrj.dto.BoardDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 게시글 상세 read-through 캐시
+ * - 최대 건수 + TTL 로 제한 (Caffeine, W-TinyLFU)
+ * - 수정/삭제 시 BoardService 가 무효화
+ * - 좋아요 수는 캐시 값 대신 LikeCounter 값을 덮어써서 보여주므로 flush 때 무효화할 필요 없음
+ */
+@Component
+public class BoardDetailCache {
+
+    private final Cache<Long, BoardDTO> cache;
+
+    public BoardDetailCache(@Value("${board.cache.max-size:10000}") long maxSize,
+                            @Value("${board.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    // 캐시에 없으면 loader 로 조회 후 저장 (null 은 저장하지 않음)
+    // 캐시된 객체가 요청마다 수정되지 않도록 복사본을 반환
+    public BoardDTO get(Long id, Function<Long, BoardDTO> loader) {
+        BoardDTO cached = cache.get(id, loader);
+        return cached == null ? null : copyOf(cached);
+    }
+
+    public void invalidate(Long id) {
+        cache.invalidate(id);
+    }
+
+    // 캐시 통계 (히트/미스/제거 수)
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        result.put("loadSuccessCount", stats.loadSuccessCount());
+        result.put("averageLoadPenaltyNanos", stats.averageLoadPenalty());
+        return result;
+    }
+
+    private BoardDTO copyOf(BoardDTO source) {
+        BoardDTO copy = new BoardDTO();
+        copy.setId(source.getId());
+        copy.setTitle(source.getTitle());
+        copy.setContent(source.getContent());
+        copy.setWriter(source.getWriter());
+        copy.setCreatedAt(source.getCreatedAt());
+        copy.setLikeCount(source.getLikeCount());
+        return copy;
+    }
+}
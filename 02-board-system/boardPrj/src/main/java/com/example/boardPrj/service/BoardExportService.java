@@ -0,0 +1,99 @@
+package com.example.boardPrj.service;
+
+import com.example.boardPrj.dto.BoardDTO;
+import com.example.boardPrj.mapper.BoardMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 게시글 전체 내보내기 (NDJSON / CSV)
+ * - MyBatis Cursor 로 한 행씩 읽어 바로 응답 스트림에 기록 → 건수와 무관하게 힙 사용량 일정
+ * - 좋아요 수는 LikeCounter 의 최신 값 사용
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final BoardMapper boardMapper;
+    private final LikeCounter likeCounter;
+    private final ObjectMapper objectMapper;
+
+    // 한 줄에 게시글 하나씩 JSON
+    @Transactional(readOnly = true)
+    public void exportNdjson(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        try (Cursor<BoardDTO> cursor = boardMapper.streamAll();
+             SequenceWriter sequence = objectMapper.writer()
+                     .withRootValueSeparator("\n")
+                     .writeValues(writer)) {
+            boolean first = true;
+            for (BoardDTO board : cursor) {
+                board.setLikeCount(likeCounter.get(board.getId()));
+                sequence.write(board);
+                if (first) {
+                    // 첫 행은 바로 내보내서 클라이언트가 즉시 응답을 받도록
+                    sequence.flush();
+                    first = false;
+                }
+            }
+            writer.write('\n');
+        }
+    }
+
+    // 헤더 + 게시글별 한 줄 CSV (RFC 4180 따옴표 처리)
+    @Transactional(readOnly = true)
+    public void exportCsv(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        try (Cursor<BoardDTO> cursor = boardMapper.streamAll()) {
+            // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+            writer.write('\uFEFF');
+            writer.write("id,title,content,writer,createdAt,likeCount\n");
+            writer.flush();
+
+            for (BoardDTO board : cursor) {
+                writer.write(String.valueOf(board.getId()));
+                writer.write(',');
+                writeCsvField(writer, board.getTitle());
+                writer.write(',');
+                writeCsvField(writer, board.getContent());
+                writer.write(',');
+                writeCsvField(writer, board.getWriter());
+                writer.write(',');
+                writer.write(board.getCreatedAt() == null ? "" : board.getCreatedAt().toString());
+                writer.write(',');
+                writer.write(String.valueOf(likeCounter.get(board.getId())));
+                writer.write('\n');
+            }
+        } finally {
+            writer.flush();
+        }
+    }
+
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
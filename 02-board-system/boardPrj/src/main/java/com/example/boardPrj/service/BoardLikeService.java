@@ -1,13 +1,20 @@
 package com.example.boardPrj.service;
 
-import com.example.boardPrj.dto.BoardLikeDTO;
 import com.example.boardPrj.mapper.BoardLikeMapper;
-import com.example.boardPrj.mapper.BoardMapper;
-import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+
 @Service
 @RequiredArgsConstructor
 @Transactional  // 이것이 중요!
@@ -15,73 +22,103 @@ import org.springframework.transaction.annotation.Transactional;
 public class BoardLikeService {
 
     private final BoardLikeMapper boardLikeMapper;
-    private final BoardMapper boardMapper;
+    private final LikeCounter likeCounter;
+    private final LikeMembershipIndex likeMembershipIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    // 데드락으로 롤백된 토글 재시도 횟수
+    private static final int MAX_ATTEMPTS = 3;
 
+    /**
+     * 좋아요 토글
+     * - 먼저 INSERT 를 시도하고, UNIQUE(board_id, user_ip) 충돌(DuplicateKeyException)이면 취소(DELETE)
+     * - 조회 후 분기(check-then-act)가 없어서 동시 더블클릭에도 상태와 카운트가 어긋나지 않음
+     * - MySQL 에서 같은 키로 동시 INSERT 후 DELETE 하면 데드락이 날 수 있음
+     *   → 트랜잭션 전체가 롤백되므로 트랜잭션 바깥에서 새 트랜잭션으로 재시도
+     *
+     * @throws IllegalArgumentException 존재하지 않는 게시글
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean toggleLike(Long boardId, String userIp) {
-        log.info("toggleLike 호출 - boardId: {}, userIp: {}", boardId, userIp);
+        log.debug("toggleLike 호출 - boardId: {}, userIp: {}", boardId, userIp);
 
-        boolean isLiked = isLikedByUser(boardId, userIp);
-        log.info("현재 좋아요 상태: {}", isLiked);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> toggleOnce(boardId, userIp));
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    log.error("좋아요 처리 데드락 재시도 실패 - boardId: {}, 시도: {}", boardId, attempt, e);
+                    throw e;
+                }
+                log.warn("좋아요 처리 데드락 - boardId: {}, 재시도 {}/{}", boardId, attempt, MAX_ATTEMPTS - 1);
+                backoff(attempt);
+            }
+        }
+    }
 
+    // 토글 한 번 (transactionTemplate 트랜잭션 안에서 실행)
+    private boolean toggleOnce(Long boardId, String userIp) {
         try {
-            if (isLiked) {
-                // 좋아요 취소
-                log.info("좋아요 취소 시도");
-                int deleteResult = boardLikeMapper.delete(boardId, userIp);
-                log.info("좋아요 취소 결과: {}", deleteResult);
-
-                if (deleteResult <= 0) {
-                    throw new RuntimeException("좋아요 취소에 실패했습니다.");
-                }
-            } else {
-                // 좋아요 추가
-                log.info("좋아요 추가 시도");
-                BoardLikeDTO boardLikeDTO = new BoardLikeDTO(boardId, userIp);
-                int insertResult = boardLikeMapper.insert(boardLikeDTO);
-                log.info("좋아요 추가 결과: {}", insertResult);
+            boardLikeMapper.insertLike(boardId, userIp);
+            log.debug("좋아요 추가 - boardId: {}", boardId);
+            afterCommit(() -> {
+                likeCounter.increment(boardId);
+                likeMembershipIndex.add(boardId, userIp);
+            });
+            return true;
 
-                if (insertResult <= 0) {
-                    throw new RuntimeException("좋아요 추가에 실패했습니다.");
-                }
+        } catch (DuplicateKeyException e) {
+            // 이미 좋아요 상태 → 취소. 동시 요청이 먼저 지웠다면 0건이고 카운트는 그대로
+            int deleted = boardLikeMapper.delete(boardId, userIp);
+            log.debug("좋아요 취소 - boardId: {}, 삭제 건수: {}", boardId, deleted);
+            if (deleted > 0) {
+                afterCommit(() -> {
+                    likeCounter.decrement(boardId);
+                    likeMembershipIndex.remove(boardId, userIp);
+                });
             }
+            return false;
 
-            // 좋아요 수 업데이트
-            updateLikeCount(boardId);
-
-            return !isLiked;
+        } catch (DataIntegrityViolationException e) {
+            // FK(board_id) 위반 - 삭제되었거나 없는 게시글
+            throw new IllegalArgumentException("존재하지 않는 게시글입니다: " + boardId, e);
+        }
+    }
 
-        } catch (Exception e) {
-            log.error("좋아요 처리 중 오류 발생", e);
-            throw e; // 트랜잭션 롤백을 위해 예외 재발생
+    // 재시도 간격 (동시에 재시도해서 다시 부딪히지 않도록 약간의 무작위 지연)
+    private static void backoff(int attempt) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(5, 20) * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("좋아요 처리 중 인터럽트", e);
         }
     }
 
-    @Transactional(readOnly = true)
+    // 메모리 인덱스에서 확인 - 처음 보는 게시글만 board_like 를 한 번 읽어 적재
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public boolean isLikedByUser(Long boardId, String userIp) {
-        log.info("좋아요 여부 확인 - boardId: {}, userIp: {}", boardId, userIp);
-        int count = boardLikeMapper.existsByBoardIdAndUserIp(boardId, userIp);
-        log.info("좋아요 여부 확인 결과: {}", count > 0);
-        return count > 0;
+        return likeMembershipIndex.contains(boardId, userIp,
+                () -> boardLikeMapper.findUserIpsByBoardId(boardId));
     }
 
-    private void updateLikeCount(Long boardId) {
-        log.info("좋아요 수 업데이트 시도 - boardId: {}", boardId);
-        int likeCount = boardLikeMapper.countByBoardId(boardId);
-        log.info("조회된 좋아요 수: {}", likeCount);
-
-        int updateResult = boardMapper.updateLikeCount(boardId, likeCount);
-        log.info("좋아요 수 업데이트 결과: {}", updateResult);
-
-        if (updateResult <= 0) {
-            throw new RuntimeException("좋아요 수 업데이트에 실패했습니다.");
-        }
+    // 메모리 카운터에서 바로 조회 (COUNT(*) 없음)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public int getLikeCount(Long boardId) {
+        return likeCounter.get(boardId);
     }
 
-    @Transactional(readOnly = true)
-    public int getLikeCount(Long boardId) {
-        log.info("좋아요 수 조회 - boardId: {}", boardId);
-        int count = boardLikeMapper.countByBoardId(boardId);
-        log.info("좋아요 수 조회 결과: {}", count);
-        return count;
+    // 커밋 이후에 메모리 상태 반영 (롤백된 토글이 카운터/인덱스에 남지 않도록)
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,193 @@
+package com.example.boardPrj.service;
+
+import com.example.boardPrj.dto.BoardDTO;
+import com.example.boardPrj.dto.BoardFingerprintDTO;
+import com.example.boardPrj.dto.BoardSearchResultDTO;
+import com.example.boardPrj.mapper.BoardMapper;
+import com.example.boardPrj.search.InvertedIndex;
+import com.example.boardPrj.search.NgramTokenizer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32;
+
+/**
+ * 게시글 전문 검색 서비스
+ * - 제목/내용/작성자를 n-gram 으로 색인 (제목은 가중치를 위해 두 번 색인)
+ * - BoardService 의 작성/수정/삭제 때 색인을 바로 갱신
+ * - 색인은 로컬 파일에 주기적으로 저장하고, 기동 시 파일이 없거나 DB 와 지문이 다르면 DB 에서 재구성
+ *   (지문 = 게시글 수 + 최대 ID + 게시글별 CRC32(title|content|writer) 합 → 수정된 게시글도 감지)
+ */
+@Service
+@Slf4j
+public class BoardSearchService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final BoardMapper boardMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Path indexPath;
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private volatile InvertedIndex index = new InvertedIndex();
+
+    public BoardSearchService(BoardMapper boardMapper,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${board.search.index-path:./data/board-search.idx}") String indexPath) {
+        this.boardMapper = boardMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.indexPath = Paths.get(indexPath);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (Files.exists(indexPath)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexPath)))) {
+                InvertedIndex loaded = InvertedIndex.readFrom(in);
+                if (matches(loaded.fingerprint(), boardMapper.fingerprint())) {
+                    index = loaded;
+                    log.info("검색 색인 파일 로드 완료 - 게시글 {}건", loaded.size());
+                    return;
+                }
+                log.warn("검색 색인 파일이 DB 와 달라 재구성합니다.");
+            } catch (IOException e) {
+                log.warn("검색 색인 파일을 읽지 못해 재구성합니다 - {}", e.getMessage());
+            }
+        }
+        rebuild();
+    }
+
+    // DB 전체를 커서로 읽어 색인 재구성
+    public void rebuild() {
+        InvertedIndex rebuilt = new InvertedIndex();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Cursor<BoardDTO> cursor = boardMapper.streamAll()) {
+                for (BoardDTO board : cursor) {
+                    rebuilt.put(board.getId(), tokens(board), fingerprint(board));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        index = rebuilt;
+        dirty.set(true);
+        save();
+        log.info("검색 색인 재구성 완료 - 게시글 {}건", rebuilt.size());
+    }
+
+    public void index(BoardDTO board) {
+        index.put(board.getId(), tokens(board), fingerprint(board));
+        dirty.set(true);
+    }
+
+    public void remove(Long boardId) {
+        index.remove(boardId);
+        dirty.set(true);
+    }
+
+    // BM25 점수 순 검색
+    public BoardSearchResultDTO search(String query, int page, int size) {
+        long start = System.nanoTime();
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNo = Math.max(0, page);
+
+        // page 가 아주 크면 int 곱셈이 음수로 넘치므로 long 으로 계산 (범위 밖이면 빈 결과)
+        long offset = (long) pageNo * pageSize;
+        InvertedIndex.SearchHits hits = index.search(NgramTokenizer.tokenize(query), offset, pageSize);
+        List<BoardDTO> boards = hits.ids().isEmpty() ? List.of() : loadInOrder(hits.ids());
+
+        long tookMicros = (System.nanoTime() - start) / 1_000;
+        return new BoardSearchResultDTO(query, boards, hits.totalHits(), pageNo, pageSize, tookMicros);
+    }
+
+    // 변경이 있을 때만 주기적으로 파일 저장 (임시 파일에 쓰고 교체)
+    @Scheduled(fixedDelayString = "${board.search.save-interval-ms:60000}")
+    public void save() {
+        if (!dirty.compareAndSet(true, false)) {
+            return;
+        }
+        try {
+            Path parent = indexPath.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path tmp = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                index.writeTo(out);
+            }
+            Files.move(tmp, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty.set(true);
+            log.error("검색 색인 저장 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        save();
+    }
+
+    // 검색 결과 ID 순서대로 게시글 조회 (IN 쿼리 한 번)
+    private List<BoardDTO> loadInOrder(List<Long> ids) {
+        Map<Long, BoardDTO> byId = new HashMap<>();
+        for (BoardDTO board : boardMapper.findByIds(ids)) {
+            byId.put(board.getId(), board);
+        }
+        List<BoardDTO> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            BoardDTO board = byId.get(id);
+            if (board != null) {
+                ordered.add(board);
+            }
+        }
+        return ordered;
+    }
+
+    // 파일의 색인이 현재 DB 와 같은지 (체크섬을 계산할 수 없는 DB 면 항상 다르다고 봄)
+    private static boolean matches(InvertedIndex.Fingerprint indexed, BoardFingerprintDTO db) {
+        return db.getChecksum() != null
+                && indexed.count() == db.getCount()
+                && indexed.maxId() == db.getMaxId()
+                && indexed.checksum() == db.getChecksum();
+    }
+
+    // 게시글 지문 - BoardMapper.fingerprint 의 CRC32(CONCAT_WS('|', title, content, writer)) 와 같은 값
+    static long fingerprint(BoardDTO board) {
+        CRC32 crc = new CRC32();
+        crc.update(String.join("|", board.getTitle(), board.getContent(), board.getWriter())
+                .getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    private List<String> tokens(BoardDTO board) {
+        List<String> tokens = new ArrayList<>();
+        List<String> title = NgramTokenizer.tokenize(board.getTitle());
+        tokens.addAll(title);
+        tokens.addAll(title);
+        tokens.addAll(NgramTokenizer.tokenize(board.getContent()));
+        tokens.addAll(NgramTokenizer.tokenize(board.getWriter()));
+        return tokens;
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.boardPrj.service;
 
+import com.example.boardPrj.dto.BoardCursor;
 import com.example.boardPrj.dto.BoardDTO;
+import com.example.boardPrj.dto.BoardPageDTO;
 import com.example.boardPrj.mapper.BoardMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -11,26 +13,72 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BoardService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final BoardMapper boardMapper;
+    private final LikeCounter likeCounter;
+    private final BoardDetailCache boardDetailCache;
+    private final LikeMembershipIndex likeMembershipIndex;
+    private final BoardSearchService boardSearchService;
 
     public List<BoardDTO> getAllBoards(){
         return boardMapper.findAll();
     }
 
+    // 커서 기반 게시글 목록 조회 - 테이블 크기와 무관하게 size+1 행만 읽음
+    public BoardPageDTO getBoardPage(String cursorToken, int size){
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        BoardCursor cursor = BoardCursor.decode(cursorToken);
+
+        List<BoardDTO> boards = cursor == null
+                ? boardMapper.findPage(null, null, pageSize + 1)
+                : boardMapper.findPage(cursor.getCreatedAt(), cursor.getId(), pageSize + 1);
+
+        boolean hasNext = boards.size() > pageSize;
+        if (hasNext) {
+            boards = boards.subList(0, pageSize);
+        }
+        String nextCursor = hasNext ? BoardCursor.from(boards.get(boards.size() - 1)).encode() : null;
+
+        // 전체 건수는 첫 페이지에서만, 통계 기반 추정치로 조회
+        Long approximateTotal = cursor == null ? boardMapper.approximateCount() : null;
+
+        return new BoardPageDTO(boards, nextCursor, hasNext, pageSize, approximateTotal);
+    }
+
     public BoardDTO getBoardById(Long id){
-        return boardMapper.findById(id);
+        BoardDTO board = boardDetailCache.get(id, boardMapper::findById);
+        if (board != null) {
+            // 아직 flush 되지 않은 좋아요도 보이도록 카운터 값 사용
+            board.setLikeCount(likeCounter.get(id));
+        }
+        return board;
     }
 
     public void createBoard(BoardDTO boardDTO){
         boardMapper.insert(boardDTO);
+        boardSearchService.index(boardDTO);
     }
 
     public void updateBoard(BoardDTO boardDTO){
         boardMapper.update(boardDTO);
+        boardDetailCache.invalidate(boardDTO.getId());
+
+        // 폼 값이 아니라 저장된 행으로 색인 (writer 는 수정되지 않으므로 폼 값과 다를 수 있음 → 지문 불일치)
+        BoardDTO stored = boardMapper.findById(boardDTO.getId());
+        if (stored != null) {
+            boardSearchService.index(stored);
+        } else {
+            boardSearchService.remove(boardDTO.getId());
+        }
     }
 
     public void deleteBoard(Long id){
         boardMapper.delete(id);
+        boardDetailCache.invalidate(id);
+        likeCounter.remove(id);
+        likeMembershipIndex.invalidate(id);
+        boardSearchService.remove(id);
     }
 
     public int getTotalCount(){
@@ -0,0 +1,241 @@
+package com.example.boardPrj.service;
+
+import com.example.boardPrj.dto.BoardLikeCountDTO;
+import com.example.boardPrj.mapper.BoardLikeMapper;
+import com.example.boardPrj.mapper.BoardMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * board.like_count 일괄 보정 작업
+ * - board id 를 구간(chunk)으로 나눠 board_like 집계를 MyBatis Cursor 로 읽음
+ *   (구간마다 쿼리를 새로 열어 긴 스냅샷을 잡고 있지 않음)
+ * - 어긋난 게시글만 BATCH executor 로 묶어서 UPDATE
+ *   (읽은 뒤 flush 로 바뀐 게시글은 조건부 UPDATE 가 0건이 되어 건너뜀)
+ * - DB 를 고친 게시글은 LikeCounter 메모리 값도 함께 맞춤
+ * - 구간 사이에 pause-ms 만큼 쉬어 운영 DB 부하를 제한
+ */
+@Component
+@Slf4j
+public class LikeCountReconciler {
+
+    private final BoardLikeMapper boardLikeMapper;
+    private final BoardMapper boardMapper;
+    private final LikeCounter likeCounter;
+    private final SqlSessionTemplate batchSqlSession;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "like-count-reconciler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${board.like-reconcile.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${board.like-reconcile.pause-ms:200}")
+    private long pauseMs;
+
+    // 진행 상황/지표
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong scannedBoards = new AtomicLong();
+    private final AtomicLong correctedBoards = new AtomicLong();
+    private final AtomicLong skippedBoards = new AtomicLong();
+    private final AtomicLong conflictedBoards = new AtomicLong();
+    private final AtomicLong chunks = new AtomicLong();
+    private volatile long lastBoardId;
+    private volatile long maxBoardId;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String lastError;
+
+    public LikeCountReconciler(BoardLikeMapper boardLikeMapper,
+                               BoardMapper boardMapper,
+                               LikeCounter likeCounter,
+                               SqlSessionFactory sqlSessionFactory,
+                               PlatformTransactionManager transactionManager) {
+        this.boardLikeMapper = boardLikeMapper;
+        this.boardMapper = boardMapper;
+        this.likeCounter = likeCounter;
+        this.batchSqlSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 정기 실행 (기본 비활성화, board.like-reconcile.cron 으로 설정)
+    @Scheduled(cron = "${board.like-reconcile.cron:-}")
+    public void scheduledRun() {
+        start();
+    }
+
+    // 백그라운드로 보정 시작 - 이미 실행 중이면 false
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        executor.submit(() -> {
+            try {
+                run();
+            } catch (RuntimeException e) {
+                log.error("좋아요 수 보정 작업 실패", e);
+                lastError = e.getMessage();
+            } finally {
+                finishedAt = LocalDateTime.now();
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    private void run() {
+        scannedBoards.set(0);
+        correctedBoards.set(0);
+        skippedBoards.set(0);
+        conflictedBoards.set(0);
+        chunks.set(0);
+        lastBoardId = 0;
+        lastError = null;
+        startedAt = LocalDateTime.now();
+        finishedAt = null;
+
+        Long maxId = boardMapper.findMaxId();
+        maxBoardId = maxId == null ? 0 : maxId;
+        log.info("좋아요 수 보정 시작 - 최대 게시글 ID: {}", maxBoardId);
+
+        for (long fromId = 1; fromId <= maxBoardId; fromId += chunkSize) {
+            long toId = Math.min(fromId + chunkSize - 1, maxBoardId);
+
+            List<BoardLikeCountDTO> corrections = scanChunk(fromId, toId);
+            if (!corrections.isEmpty()) {
+                applyCorrections(corrections);
+            }
+
+            lastBoardId = toId;
+            chunks.incrementAndGet();
+            pause();
+        }
+        log.info("좋아요 수 보정 완료 - 검사 {}건, 보정 {}건, 충돌로 건너뜀 {}건",
+                scannedBoards.get(), correctedBoards.get(), conflictedBoards.get());
+    }
+
+    // 구간 하나를 커서로 읽으며 어긋난 게시글만 모음
+    private List<BoardLikeCountDTO> scanChunk(long fromId, long toId) {
+        return transactionTemplate.execute(status -> {
+            List<BoardLikeCountDTO> corrections = new ArrayList<>();
+            try (Cursor<BoardLikeCountDTO> cursor = boardLikeMapper.scanLikeCounts(fromId, toId)) {
+                for (BoardLikeCountDTO row : cursor) {
+                    scannedBoards.incrementAndGet();
+                    if (row.getLikeCount() == row.getStoredCount()) {
+                        continue;
+                    }
+                    // 메모리 카운터에 아직 flush 안 된 변경이 있으면 LikeCounter 가 곧 덮어쓰므로 건너뜀
+                    if (likeCounter.isDirty(row.getBoardId())) {
+                        skippedBoards.incrementAndGet();
+                        continue;
+                    }
+                    corrections.add(row);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return corrections;
+        });
+    }
+
+    // JDBC batch 로 한 번에 조건부 UPDATE 후, 반영된 게시글만 메모리 카운터 보정
+    private void applyCorrections(List<BoardLikeCountDTO> corrections) {
+        // 스캔 이후 토글이 들어와 아직 flush 전이면 LikeCounter 가 곧 덮어쓰므로 제외
+        List<BoardLikeCountDTO> targets = new ArrayList<>(corrections.size());
+        for (BoardLikeCountDTO row : corrections) {
+            if (likeCounter.isDirty(row.getBoardId())) {
+                skippedBoards.incrementAndGet();
+            } else {
+                targets.add(row);
+            }
+        }
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        int[] updateCounts = transactionTemplate.execute(status -> {
+            BoardMapper batchMapper = batchSqlSession.getMapper(BoardMapper.class);
+            for (BoardLikeCountDTO row : targets) {
+                batchMapper.updateLikeCountIfUnchanged(row.getBoardId(), row.getStoredCount(), row.getLikeCount());
+            }
+            List<BatchResult> results = batchSqlSession.flushStatements();
+            return results.isEmpty() ? new int[0] : results.get(0).getUpdateCounts();
+        });
+
+        for (int i = 0; i < targets.size(); i++) {
+            BoardLikeCountDTO row = targets.get(i);
+            int updated = i < updateCounts.length ? updateCounts[i] : Statement.SUCCESS_NO_INFO;
+            if (updated == 0) {
+                // 스캔 이후 flush 로 like_count 가 바뀜 - 다음 실행 때 다시 검사
+                conflictedBoards.incrementAndGet();
+                continue;
+            }
+            correctedBoards.incrementAndGet();
+            // 드라이버가 건수를 알려주지 않으면(SUCCESS_NO_INFO) 반영 여부를 모르므로 메모리는 그대로 둠
+            if (updated > 0) {
+                likeCounter.correct(row.getBoardId(), row.getLikeCount());
+            }
+        }
+    }
+
+    private void pause() {
+        if (pauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("좋아요 수 보정 작업이 중단되었습니다.", e);
+        }
+    }
+
+    // 진행 상황/지표
+    public Map<String, Object> progress() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("running", running.get());
+        result.put("startedAt", startedAt);
+        result.put("finishedAt", finishedAt);
+        result.put("lastBoardId", lastBoardId);
+        result.put("maxBoardId", maxBoardId);
+        result.put("progress", maxBoardId == 0 ? 0.0 : (double) lastBoardId / maxBoardId);
+        result.put("chunks", chunks.get());
+        result.put("scannedBoards", scannedBoards.get());
+        result.put("correctedBoards", correctedBoards.get());
+        result.put("skippedBoards", skippedBoards.get());
+        result.put("conflictedBoards", conflictedBoards.get());
+        result.put("lastError", lastError);
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.boardPrj.service;
+
+import com.example.boardPrj.dto.BoardLikeCountDTO;
+import com.example.boardPrj.mapper.BoardLikeMapper;
+import com.example.boardPrj.mapper.BoardMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글별 좋아요 수 메모리 카운터 (write-behind)
+ * - 토글 시 +1/-1 을 즉시 반영하고, board.like_count 는 주기적으로 일괄 저장
+ * - board_like 테이블이 원본이므로 기동 시 GROUP BY 한 번으로 재구성 (미반영분 유실 없음)
+ * - 단일 인스턴스 기준. 여러 인스턴스로 띄우면 인스턴스마다 카운터가 갈라짐
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LikeCounter {
+
+    private final BoardLikeMapper boardLikeMapper;
+    private final BoardMapper boardMapper;
+
+    // 게시글 ID → 좋아요 수 (LongAdder 로 경합 분산)
+    private final ConcurrentHashMap<Long, LongAdder> counts = new ConcurrentHashMap<>();
+    // 아직 DB 에 반영되지 않은 게시글 ID
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    @Value("${board.like.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    // 기동 시 board_like 기준으로 카운터 재구성
+    @PostConstruct
+    public void rebuild() {
+        counts.clear();
+        dirty.clear();
+        List<BoardLikeCountDTO> rows = boardLikeMapper.countGroupByBoardId();
+        for (BoardLikeCountDTO row : rows) {
+            // 좋아요 0건 게시글은 카운터를 만들지 않음 (get() 이 0 반환)
+            if (row.getLikeCount() > 0) {
+                LongAdder adder = new LongAdder();
+                adder.add(row.getLikeCount());
+                counts.put(row.getBoardId(), adder);
+            }
+            // board.like_count 와 어긋난 게시글은 다음 flush 때 바로잡음
+            if (row.getLikeCount() != row.getStoredCount()) {
+                dirty.add(row.getBoardId());
+            }
+        }
+        log.info("좋아요 카운터 재구성 완료 - 게시글 {}건, 좋아요 있는 게시글 {}건, 보정 대상 {}건",
+                rows.size(), counts.size(), dirty.size());
+    }
+
+    public void increment(Long boardId) {
+        add(boardId, 1);
+    }
+
+    public void decrement(Long boardId) {
+        add(boardId, -1);
+    }
+
+    private void add(Long boardId, int delta) {
+        counts.computeIfAbsent(boardId, id -> new LongAdder()).add(delta);
+        dirty.add(boardId);
+    }
+
+    public int get(Long boardId) {
+        LongAdder adder = counts.get(boardId);
+        return adder == null ? 0 : (int) adder.sum();
+    }
+
+    /**
+     * 보정 작업이 DB 를 고친 뒤 메모리 값을 맞춤 (dirty 로 만들지 않음 - DB 는 이미 expected)
+     * - 그 사이 토글이 들어와 dirty 면 다음 flush 가 메모리 값을 쓰므로 건드리지 않음
+     * - 값을 덮어쓰지 않고 차이만 더하므로, 보정 중 들어온 증감도 사라지지 않음
+     */
+    public void correct(Long boardId, int expected) {
+        if (dirty.contains(boardId)) {
+            return;
+        }
+        int delta = expected - get(boardId);
+        if (delta != 0) {
+            counts.computeIfAbsent(boardId, id -> new LongAdder()).add(delta);
+            log.info("좋아요 카운터 보정 - boardId: {}, {} → {}", boardId, expected - delta, expected);
+        }
+    }
+
+    // 아직 DB 에 반영되지 않은 변경이 있는지
+    public boolean isDirty(Long boardId) {
+        return dirty.contains(boardId);
+    }
+
+    // 게시글 삭제 시 카운터 제거 (board_like 는 CASCADE 로 함께 삭제됨)
+    public void remove(Long boardId) {
+        counts.remove(boardId);
+        dirty.remove(boardId);
+    }
+
+    // 변경된 게시글의 좋아요 수를 board.like_count 에 일괄 반영
+    @Scheduled(fixedDelayString = "${board.like.flush-interval-ms:1000}")
+    public void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        List<BoardLikeCountDTO> batch = new ArrayList<>(flushBatchSize);
+        Iterator<Long> it = dirty.iterator();
+        while (it.hasNext()) {
+            Long boardId = it.next();
+            // dirty 에서 먼저 빼고 값을 읽어야 그 사이 들어온 증감이 다음 flush 로 넘어감
+            it.remove();
+            batch.add(new BoardLikeCountDTO(boardId, get(boardId)));
+
+            if (batch.size() >= flushBatchSize) {
+                write(batch);
+                batch = new ArrayList<>(flushBatchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private void write(List<BoardLikeCountDTO> batch) {
+        try {
+            boardMapper.updateLikeCounts(batch);
+        } catch (RuntimeException e) {
+            log.error("좋아요 수 일괄 반영 실패 - {}건, 다음 주기에 재시도", batch.size(), e);
+            batch.forEach(row -> dirty.add(row.getBoardId()));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.boardPrj.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 게시글별 좋아요 사용자 인덱스 (isLikedByUser 용)
+ * - 게시글마다 user_ip 의 64비트 해시를 open addressing long 배열에 보관
+ * - 처음 조회될 때 board_like 에서 한 번 읽어 채우고, 이후에는 toggleLike 커밋 시 갱신
+ * - 전체 메모리는 board.like-index.max-bytes 로 제한, 초과 시 덜 쓰이는 게시글부터 제거
+ */
+@Component
+public class LikeMembershipIndex {
+
+    private final Cache<Long, Members> boards;
+
+    public LikeMembershipIndex(@Value("${board.like-index.max-bytes:67108864}") long maxBytes) {
+        this.boards = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long boardId, Members members) -> members.memoryBytes())
+                .recordStats()
+                .build();
+    }
+
+    // 좋아요 여부 확인 - 인덱스에 없으면 loader(board_like 조회)로 채운 뒤 확인
+    public boolean contains(Long boardId, String userIp, Supplier<List<String>> loader) {
+        Members members = boards.get(boardId, id -> Members.of(loader.get()));
+        return members.contains(hash(userIp));
+    }
+
+    // 이미 올라와 있는 게시글만 갱신 (없으면 다음 조회 때 DB 에서 읽음)
+    // compute 로 처리하므로 같은 게시글을 적재 중이면 적재가 끝난 뒤에 반영됨
+    public void add(Long boardId, String userIp) {
+        long h = hash(userIp);
+        boards.asMap().computeIfPresent(boardId, (id, members) -> {
+            members.add(h);
+            return members;
+        });
+    }
+
+    public void remove(Long boardId, String userIp) {
+        long h = hash(userIp);
+        boards.asMap().computeIfPresent(boardId, (id, members) -> {
+            members.remove(h);
+            return members;
+        });
+    }
+
+    public void invalidate(Long boardId) {
+        boards.invalidate(boardId);
+    }
+
+    // 인덱스 통계 (적재된 게시글 수, 메모리 사용량, 히트/미스/제거 수)
+    public Map<String, Object> stats() {
+        CacheStats stats = boards.stats();
+        long bytes = boards.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("boards", boards.estimatedSize());
+        result.put("memoryBytes", bytes);
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        return result;
+    }
+
+    // user_ip 64비트 해시 (FNV-1a + 비트 섞기), 0 은 빈 칸 표시로 쓰므로 피함
+    static long hash(String userIp) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : userIp.getBytes(StandardCharsets.UTF_8)) {
+            h ^= (b & 0xff);
+            h *= 0x100000001b3L;
+        }
+        h ^= (h >>> 33);
+        h *= 0xff51afd7ed558ccdL;
+        h ^= (h >>> 33);
+        return h == 0 ? 1 : h;
+    }
+
+    /**
+     * 한 게시글의 좋아요 사용자 해시 집합 (linear probing)
+     */
+    static final class Members {
+
+        private static final int MIN_CAPACITY = 8;
+
+        private long[] table;
+        private int size;
+
+        private Members(int expected) {
+            int capacity = MIN_CAPACITY;
+            while (capacity < expected * 2) {
+                capacity <<= 1;
+            }
+            this.table = new long[capacity];
+        }
+
+        static Members of(List<String> userIps) {
+            Members members = new Members(userIps.size());
+            for (String userIp : userIps) {
+                members.add(hash(userIp));
+            }
+            return members;
+        }
+
+        synchronized boolean contains(long h) {
+            int mask = table.length - 1;
+            for (int i = mix(h) & mask; table[i] != 0; i = (i + 1) & mask) {
+                if (table[i] == h) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        synchronized void add(long h) {
+            if ((size + 1) * 4 > table.length * 3) {
+                resize(table.length << 1);
+            }
+            int mask = table.length - 1;
+            int i = mix(h) & mask;
+            while (table[i] != 0) {
+                if (table[i] == h) {
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            table[i] = h;
+            size++;
+        }
+
+        // backward shift 삭제 - 삭제 표시(tombstone) 없이 뒤 항목을 당겨옴
+        synchronized void remove(long h) {
+            int mask = table.length - 1;
+            int i = mix(h) & mask;
+            while (table[i] != h) {
+                if (table[i] == 0) {
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            table[i] = 0;
+            size--;
+
+            int j = i;
+            while (true) {
+                j = (j + 1) & mask;
+                if (table[j] == 0) {
+                    return;
+                }
+                int home = mix(table[j]) & mask;
+                // j 의 원래 위치가 (i, j] 구간 밖이면 i 로 당김
+                boolean between = i <= j ? (i < home && home <= j) : (i < home || home <= j);
+                if (!between) {
+                    table[i] = table[j];
+                    table[j] = 0;
+                    i = j;
+                }
+            }
+        }
+
+        synchronized int memoryBytes() {
+            return 16 + table.length * Long.BYTES;
+        }
+
+        private void resize(int capacity) {
+            long[] old = table;
+            table = new long[capacity];
+            int mask = capacity - 1;
+            for (long h : old) {
+                if (h != 0) {
+                    int i = mix(h) & mask;
+                    while (table[i] != 0) {
+                        i = (i + 1) & mask;
+                    }
+                    table[i] = h;
+                }
+            }
+        }
+
+        private static int mix(long h) {
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
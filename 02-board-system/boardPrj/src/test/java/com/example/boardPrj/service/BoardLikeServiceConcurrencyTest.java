@@ -0,0 +1,129 @@
+package com.example.boardPrj.service;
+
+import com.example.boardPrj.dto.BoardDTO;
+import com.example.boardPrj.mapper.BoardLikeMapper;
+import com.example.boardPrj.mapper.BoardMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * BoardLikeService 동시성 테스트
+ *
+ * - 같은 IP 들이 동시에 수천 번 좋아요를 토글해도
+ *   board_like 행 수, 메모리 카운터, board.like_count 가 모두 일치하는지 검증
+ */
+@SpringBootTest
+class BoardLikeServiceConcurrencyTest {
+
+    private static final int THREADS = 32;
+    private static final int TOGGLES = 4000;
+    private static final int USERS = 20;
+
+    @Autowired
+    private BoardLikeService boardLikeService;
+
+    @Autowired
+    private BoardMapper boardMapper;
+
+    @Autowired
+    private BoardLikeMapper boardLikeMapper;
+
+    @Autowired
+    private LikeCounter likeCounter;
+
+    private Long boardId;
+
+    @BeforeEach
+    void setUp() {
+        BoardDTO board = new BoardDTO();
+        board.setTitle("동시성 테스트");
+        board.setContent("좋아요 토글 동시성 테스트");
+        board.setWriter("tester");
+        boardMapper.insert(board);
+        boardId = board.getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        boardMapper.delete(boardId);
+        likeCounter.remove(boardId);
+    }
+
+    @Test
+    @DisplayName("동시 좋아요 토글 후 좋아요 수 일관성 테스트")
+    void concurrentToggleKeepsCountConsistent() throws InterruptedException {
+        // Given: 여러 스레드가 동시에 시작하도록 대기
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(TOGGLES);
+        Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+
+        for (int i = 0; i < TOGGLES; i++) {
+            String userIp = "10.0.0." + (i % USERS);
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    boardLikeService.toggleLike(boardId, userIp);
+                } catch (Throwable t) {
+                    errors.add(t);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // When: 동시에 토글
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // Then: 예외 없이 처리되고 카운터와 실제 행 수가 일치
+        assertThat(errors).isEmpty();
+
+        int rows = boardLikeMapper.countByBoardId(boardId);
+        assertThat(rows).isBetween(0, USERS);
+        assertThat(likeCounter.get(boardId)).isEqualTo(rows);
+        assertThat(boardLikeService.getLikeCount(boardId)).isEqualTo(rows);
+
+        // Then: flush 후 board.like_count 도 일치
+        likeCounter.flush();
+        assertThat(boardMapper.findById(boardId).getLikeCount()).isEqualTo(rows);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 연속 토글은 좋아요/취소를 번갈아 반환")
+    void toggleAlternatesState() {
+        // When & Then: 추가 → 취소 → 추가
+        assertThat(boardLikeService.toggleLike(boardId, "192.168.0.1")).isTrue();
+        assertThat(boardLikeService.toggleLike(boardId, "192.168.0.1")).isFalse();
+        assertThat(boardLikeService.toggleLike(boardId, "192.168.0.1")).isTrue();
+
+        List<Integer> counts = List.of(boardLikeMapper.countByBoardId(boardId), likeCounter.get(boardId));
+        assertThat(counts).containsOnly(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글 좋아요는 취소로 처리하지 않고 예외")
+    void toggleOnMissingBoardFails() {
+        Long missingId = boardId + 1_000_000;
+
+        // When & Then: FK 위반이 '좋아요 취소'로 삼켜지지 않음
+        assertThatThrownBy(() -> boardLikeService.toggleLike(missingId, "192.168.0.1"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(likeCounter.get(missingId)).isZero();
+    }
+}
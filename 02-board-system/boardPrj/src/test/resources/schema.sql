@@ -0,0 +1,20 @@
+-- 테스트용 스키마 (README 의 MySQL 스키마와 동일한 구조)
+CREATE TABLE IF NOT EXISTS board (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    content TEXT NOT NULL,
+    writer VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    like_count INT DEFAULT 0
+);
+
+CREATE INDEX IF NOT EXISTS idx_board_created_at_id ON board (created_at, id);
+
+CREATE TABLE IF NOT EXISTS board_like (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    board_id BIGINT NOT NULL,
+    user_ip VARCHAR(45) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (board_id) REFERENCES board(id) ON DELETE CASCADE,
+    CONSTRAINT unique_like UNIQUE (board_id, user_ip)
+);
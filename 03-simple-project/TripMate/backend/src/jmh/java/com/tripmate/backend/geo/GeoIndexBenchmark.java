@@ -0,0 +1,151 @@
+package com.tripmate.backend.geo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정 위치 검색 벤치마크
+ *
+ * 격자 색인(GeoGridIndex) vs H2 (latitude, longitude) 인덱스 bounding-box SQL
+ * 좌표는 한반도 범위(위도 33~38.5, 경도 124.5~130)에 무작위 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GeoIndexBenchmark {
+
+    private static final double MIN_LAT = 33.0;
+    private static final double MAX_LAT = 38.5;
+    private static final double MIN_LON = 124.5;
+    private static final double MAX_LON = 130.0;
+
+    @Param({"10000", "100000"})
+    public int pointCount;
+
+    @Param({"5"})
+    public double radiusKm;
+
+    private GeoGridIndex index;
+    private Connection connection;
+    private PreparedStatement boundingBox;
+
+    // 질의 중심점 (매 호출마다 돌아가며 사용)
+    private double[][] centers;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        SplittableRandom random = new SplittableRandom(42);
+        index = new GeoGridIndex(0.05);
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:geo;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS schedules");
+            st.execute("CREATE TABLE schedules (id BIGINT PRIMARY KEY, trip_id BIGINT, "
+                    + "latitude DOUBLE, longitude DOUBLE)");
+            st.execute("CREATE INDEX idx_schedules_lat_lon ON schedules (latitude, longitude)");
+        }
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO schedules (id, trip_id, latitude, longitude) VALUES (?, ?, ?, ?)")) {
+            for (long id = 1; id <= pointCount; id++) {
+                double lat = random.nextDouble(MIN_LAT, MAX_LAT);
+                double lon = random.nextDouble(MIN_LON, MAX_LON);
+                index.put(new ScheduleLocation(id, id / 10, "일정 " + id, null, lat, lon));
+
+                insert.setLong(1, id);
+                insert.setLong(2, id / 10);
+                insert.setDouble(3, lat);
+                insert.setDouble(4, lon);
+                insert.addBatch();
+                if (id % 1000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+
+        boundingBox = connection.prepareStatement(
+                "SELECT id, trip_id, latitude, longitude FROM schedules "
+                        + "WHERE latitude BETWEEN ? AND ? AND longitude BETWEEN ? AND ?");
+
+        centers = new double[1024][];
+        for (int i = 0; i < centers.length; i++) {
+            centers[i] = new double[]{random.nextDouble(MIN_LAT, MAX_LAT), random.nextDouble(MIN_LON, MAX_LON)};
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        boundingBox.close();
+        connection.close();
+    }
+
+    private double[] nextCenter() {
+        next = (next + 1) & (centers.length - 1);
+        return centers[next];
+    }
+
+    @Benchmark
+    public List<GeoGridIndex.Hit> gridWithin() {
+        double[] c = nextCenter();
+        return index.within(c[0], c[1], radiusKm, loc -> true, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public List<GeoGridIndex.Hit> gridNearest10() {
+        double[] c = nextCenter();
+        return index.nearest(c[0], c[1], 10, 500, loc -> true);
+    }
+
+    /**
+     * DB 방식: bounding-box로 후보 조회 후 실제 거리로 필터
+     */
+    @Benchmark
+    public List<GeoGridIndex.Hit> sqlBoundingBox() throws SQLException {
+        double[] c = nextCenter();
+        double dLat = radiusKm / GeoDistance.KM_PER_LAT_DEGREE;
+        double dLon = radiusKm / GeoDistance.kmPerLonDegree(c[0]);
+
+        boundingBox.setDouble(1, c[0] - dLat);
+        boundingBox.setDouble(2, c[0] + dLat);
+        boundingBox.setDouble(3, c[1] - dLon);
+        boundingBox.setDouble(4, c[1] + dLon);
+
+        List<GeoGridIndex.Hit> hits = new ArrayList<>();
+        try (ResultSet rs = boundingBox.executeQuery()) {
+            while (rs.next()) {
+                double lat = rs.getDouble(3);
+                double lon = rs.getDouble(4);
+                double d = GeoDistance.haversineKm(c[0], c[1], lat, lon);
+                if (d <= radiusKm) {
+                    hits.add(new GeoGridIndex.Hit(
+                            new ScheduleLocation(rs.getLong(1), rs.getLong(2), null, null, lat, lon), d));
+                }
+            }
+        }
+        hits.sort((a, b) -> Double.compare(a.distanceKm(), b.distanceKm()));
+        return hits;
+    }
+}
@@ -0,0 +1,45 @@
+package com.tripmate.backend.geo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하루 동선 최적화 벤치마크 (시간 예산 없이 수렴할 때까지)
+ * 좌표는 제주도 범위에 무작위 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RouteOptimizerBenchmark {
+
+    @Param({"20", "100", "300"})
+    public int stops;
+
+    private double[] lats;
+    private double[] lons;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7);
+        lats = new double[stops];
+        lons = new double[stops];
+        for (int i = 0; i < stops; i++) {
+            lats[i] = random.nextDouble(33.2, 33.6);
+            lons[i] = random.nextDouble(126.1, 126.9);
+        }
+    }
+
+    @Benchmark
+    public int[] optimize() {
+        return RouteOptimizer.optimize(lats, lons, Long.MAX_VALUE);
+    }
+}
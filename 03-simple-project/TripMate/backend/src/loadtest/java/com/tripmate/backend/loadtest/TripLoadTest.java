@@ -0,0 +1,275 @@
+package com.tripmate.backend.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * /trips 엔드포인트 부하 테스트 (플랫폼 스레드 vs 가상 스레드)
+ *
+ * 같은 서버를 모드만 바꿔 두 번 띄운 뒤 각각에 같은 부하를 걸고 결과를 나란히 비교합니다.
+ *
+ * 1. 대상 서버마다 테스트 사용자 가입/로그인 → JWT 발급
+ * 2. 조회할 여행 몇 개 생성 (공개 여행 포함)
+ * 3. 동시 사용자 수를 단계적으로 늘리며 durationSeconds 동안 closed-loop로 요청
+ *    GET /trips, GET /trips/public, GET /trips/{id}를 번갈아 호출
+ * 4. 단계마다 처리량, p50/p99, 오류 수 출력
+ *    → p99가 SLA 이내이고 오류율 1% 미만인 가장 큰 동시 사용자 수 = 최대 동시 처리량
+ *
+ * 실행 예)
+ *   TRIPMATE_VIRTUAL_THREADS=false java -jar backend.jar --server.port=8080
+ *   TRIPMATE_VIRTUAL_THREADS=true  java -jar backend.jar --server.port=8081
+ *   ./gradlew loadTest -Ptargets=platform=http://localhost:8080/api,virtual=http://localhost:8081/api
+ *
+ * 클라이언트가 병목이 되지 않도록 요청은 가상 스레드에서 보냅니다.
+ */
+public class TripLoadTest {
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    private static final double MAX_ERROR_RATE = 0.01;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final int[] concurrencyLevels;
+    private final int durationSeconds;
+    private final long p99SlaMs;
+
+    /**
+     * 단계별 측정 결과
+     */
+    record StepResult(int concurrency, long requests, long errors, double rps, double p50Ms, double p99Ms) {
+
+        boolean withinSla(long p99SlaMs) {
+            return requests > 0
+                    && errors <= requests * MAX_ERROR_RATE
+                    && p99Ms <= p99SlaMs;
+        }
+    }
+
+    TripLoadTest(int[] concurrencyLevels, int durationSeconds, long p99SlaMs) {
+        this.concurrencyLevels = concurrencyLevels;
+        this.durationSeconds = durationSeconds;
+        this.p99SlaMs = p99SlaMs;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> targets = parseTargets(System.getProperty(
+                "loadtest.targets", "platform=http://localhost:8080/api"));
+        int[] levels = Arrays.stream(System.getProperty("loadtest.concurrency", "50,200,800,1600").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        int duration = Integer.parseInt(System.getProperty("loadtest.durationSeconds", "20"));
+        long sla = Long.parseLong(System.getProperty("loadtest.p99SlaMs", "500"));
+
+        TripLoadTest test = new TripLoadTest(levels, duration, sla);
+
+        Map<String, List<StepResult>> results = new LinkedHashMap<>();
+        for (Map.Entry<String, String> target : targets.entrySet()) {
+            System.out.printf("%n=== %s (%s) ===%n", target.getKey(), target.getValue());
+            results.put(target.getKey(), test.run(target.getValue()));
+        }
+        test.printSummary(results);
+    }
+
+    /**
+     * 대상 서버 하나에 단계별 부하 실행
+     */
+    List<StepResult> run(String baseUrl) throws Exception {
+        // 1. 테스트 사용자 토큰
+        String token = login(baseUrl);
+
+        // 2. 조회 대상 여행 준비
+        List<Long> tripIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            tripIds.add(createTrip(baseUrl, token, i));
+        }
+        List<URI> uris = new ArrayList<>();
+        uris.add(URI.create(baseUrl + "/trips?size=20"));
+        uris.add(URI.create(baseUrl + "/trips/public?size=20"));
+        tripIds.forEach(id -> uris.add(URI.create(baseUrl + "/trips/" + id)));
+
+        // 3. 워밍업 (JIT, 커넥션 풀)
+        step(uris, token, concurrencyLevels[0], Math.min(5, durationSeconds));
+
+        // 4. 단계별 측정
+        List<StepResult> steps = new ArrayList<>();
+        System.out.printf("%8s %10s %8s %10s %9s %9s%n", "users", "requests", "errors", "req/s", "p50(ms)", "p99(ms)");
+        for (int concurrency : concurrencyLevels) {
+            StepResult r = step(uris, token, concurrency, durationSeconds);
+            steps.add(r);
+            System.out.printf("%8d %10d %8d %10.1f %9.1f %9.1f%n",
+                    r.concurrency(), r.requests(), r.errors(), r.rps(), r.p50Ms(), r.p99Ms());
+        }
+        return steps;
+    }
+
+    /**
+     * concurrency명의 사용자가 durationSeconds 동안 쉬지 않고 요청 (closed-loop)
+     */
+    private StepResult step(List<URI> uris, String token, int concurrency, int seconds) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<long[]>> futures = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(users.submit(() -> runUser(uris, token, deadline)));
+            }
+
+            // 사용자별 지연시간(ns) 합치기, 마지막 원소는 오류 수
+            List<long[]> perUser = new ArrayList<>(concurrency);
+            long errors = 0;
+            int total = 0;
+            for (Future<long[]> f : futures) {
+                long[] latencies = f.get();
+                errors += latencies[latencies.length - 1];
+                perUser.add(latencies);
+                total += latencies.length - 1;
+            }
+            long[] all = new long[total];
+            int pos = 0;
+            for (long[] latencies : perUser) {
+                System.arraycopy(latencies, 0, all, pos, latencies.length - 1);
+                pos += latencies.length - 1;
+            }
+            Arrays.sort(all);
+
+            return new StepResult(concurrency, total, errors, (double) total / seconds,
+                    percentileMs(all, 0.50), percentileMs(all, 0.99));
+        }
+    }
+
+    /**
+     * 사용자 한 명: 마감 시각까지 무작위 엔드포인트 호출
+     *
+     * @return 요청별 지연시간(ns) + 마지막 원소에 오류 수
+     */
+    private long[] runUser(List<URI> uris, String token, long deadline) {
+        long[] latencies = new long[1024];
+        int count = 0;
+        long errors = 0;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (System.nanoTime() < deadline) {
+            HttpRequest request = HttpRequest.newBuilder(uris.get(random.nextInt(uris.size())))
+                    .header("Authorization", "Bearer " + token)
+                    .timeout(Duration.ofSeconds(10))
+                    .GET()
+                    .build();
+            long start = System.nanoTime();
+            try {
+                int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (status >= 400) {
+                    errors++;
+                }
+            } catch (Exception e) {
+                errors++;
+            }
+            if (count == latencies.length - 1) {
+                latencies = Arrays.copyOf(latencies, latencies.length * 2);
+            }
+            latencies[count++] = System.nanoTime() - start;
+        }
+
+        long[] result = Arrays.copyOf(latencies, count + 1);
+        result[count] = errors;
+        return result;
+    }
+
+    /**
+     * 결과 비교표: 대상별 최대 동시 처리량과 단계별 p99
+     */
+    private void printSummary(Map<String, List<StepResult>> results) {
+        System.out.printf("%n=== 요약 (p99 <= %dms, 오류율 < %.0f%%) ===%n", p99SlaMs, MAX_ERROR_RATE * 100);
+        for (Map.Entry<String, List<StepResult>> e : results.entrySet()) {
+            int maxUsers = e.getValue().stream()
+                    .filter(r -> r.withinSla(p99SlaMs))
+                    .mapToInt(StepResult::concurrency)
+                    .max()
+                    .orElse(0);
+            StringBuilder line = new StringBuilder();
+            for (StepResult r : e.getValue()) {
+                line.append(String.format("  %d명 p50=%.1f p99=%.1f", r.concurrency(), r.p50Ms(), r.p99Ms()));
+            }
+            System.out.printf("%-10s 최대 동시 사용자 %d명 |%s%n", e.getKey(), maxUsers, line);
+        }
+    }
+
+    private String login(String baseUrl) throws Exception {
+        String email = "loadtest@tripmate.dev";
+        String credentials = "{\"email\":\"" + email + "\",\"password\":\"loadtest123\"";
+
+        // 이미 가입되어 있으면 400 → 무시하고 로그인
+        post(baseUrl + "/auth/signup", credentials + ",\"name\":\"부하테스트\"}", null);
+        String body = post(baseUrl + "/auth/login", credentials + "}", null);
+        return extract(TOKEN, body, "token");
+    }
+
+    private Long createTrip(String baseUrl, String token, int n) throws Exception {
+        String json = "{\"title\":\"부하 테스트 " + n + "\",\"destination\":\"제주\","
+                + "\"startDate\":\"2025-04-01\",\"endDate\":\"2025-04-03\","
+                + "\"budget\":500000,\"isPublic\":" + (n % 2 == 0) + "}";
+        return Long.parseLong(extract(ID, post(baseUrl + "/trips", json, token), "id"));
+    }
+
+    private String post(String url, String json, String token) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(10))
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return client.send(builder.build(), HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    private static String extract(Pattern pattern, String body, String field) {
+        Matcher m = pattern.matcher(body);
+        if (!m.find()) {
+            throw new IllegalStateException("응답에 " + field + "가 없습니다: " + body);
+        }
+        return m.group(1);
+    }
+
+    private static double percentileMs(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    /**
+     * "platform=http://a,virtual=http://b" → {platform: http://a, virtual: http://b}
+     */
+    private static Map<String, String> parseTargets(String spec) {
+        Map<String, String> targets = new LinkedHashMap<>();
+        for (String entry : spec.split(",")) {
+            String[] kv = entry.trim().split("=", 2);
+            if (kv.length == 2) {
+                targets.put(kv[0], kv[1]);
+            } else {
+                targets.put(kv[0], kv[0]);
+            }
+        }
+        return targets;
+    }
+}
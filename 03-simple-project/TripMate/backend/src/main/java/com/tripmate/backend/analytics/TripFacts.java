@@ -0,0 +1,65 @@
+package com.tripmate.backend.analytics;
+
+import com.tripmate.backend.dto.response.TripResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 통계에 필요한 여행 정보 (불변)
+ *
+ * 수정/삭제 시 이전 값을 빼기 위해 여행마다 하나씩 보관
+ */
+@Getter
+@AllArgsConstructor
+public class TripFacts {
+
+    private final Long tripId;
+    private final Long ownerId;
+    private final String destination;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final Double budget;
+
+    // 공개 여행만 전체 통계에 반영
+    private final Boolean isPublic;
+
+    public static TripFacts from(TripResponse trip) {
+        return new TripFacts(
+                trip.getId(),
+                trip.getOwnerId(),
+                trip.getDestination(),
+                trip.getStartDate(),
+                trip.getEndDate(),
+                trip.getBudget(),
+                trip.getIsPublic()
+        );
+    }
+
+    /**
+     * 여행 일수 (시작일, 종료일 포함)
+     * 예) 4/1 ~ 4/3 → 3일, 날짜가 없거나 뒤집혀 있으면 0
+     */
+    public long getDays() {
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            return 0;
+        }
+        return ChronoUnit.DAYS.between(startDate, endDate) + 1;
+    }
+
+    /**
+     * 전체 통계에 들어가는 여행인지 (비공개 여행의 여행지/예산이 다른 사용자에게 보이지 않도록)
+     */
+    public boolean isGlobal() {
+        return Boolean.TRUE.equals(isPublic);
+    }
+
+    /**
+     * 여행지 집계 키 (앞뒤 공백 제거)
+     */
+    public String getDestinationKey() {
+        return destination == null ? "" : destination.trim();
+    }
+}
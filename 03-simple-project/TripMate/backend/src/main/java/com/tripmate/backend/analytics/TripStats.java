@@ -0,0 +1,118 @@
+package com.tripmate.backend.analytics;
+
+import com.tripmate.backend.dto.response.TripAnalyticsResponse;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 여행 통계 누적값 (전체 또는 사용자 한 명)
+ *
+ * 여행이 추가/삭제될 때 합계와 개수만 더하고 빼서 유지합니다.
+ * → 조회할 때 여행 목록을 다시 훑지 않음
+ *
+ * - 예산: 합계는 BigDecimal (더하고 빼기를 반복해도 오차가 쌓이지 않음)
+ * - 월별 여행 수: 시작일 기준
+ * - 인기 여행지: 여행 수 순으로 정렬된 TreeSet을 함께 유지 → 상위 N개는 앞에서 N개만 읽음
+ *
+ * 동시성은 호출 측(TripAnalyticsService)의 잠금으로 보장
+ */
+public class TripStats {
+
+    // 여행 수 많은 순 → 이름순
+    private static final Comparator<Ranked> RANKING =
+            Comparator.comparingInt(Ranked::count).reversed()
+                    .thenComparing(Ranked::destination);
+
+    private int tripCount;
+    private int budgetedTripCount;
+    private BigDecimal totalBudget = BigDecimal.ZERO;
+    private long totalDays;
+
+    // 월 → 여행 수
+    private final NavigableMap<YearMonth, Integer> tripsPerMonth = new TreeMap<>();
+
+    // 여행지 → 여행 수, 같은 내용을 순위대로
+    private final Map<String, Integer> destinationCounts = new HashMap<>();
+    private final NavigableSet<Ranked> destinationRanking = new TreeSet<>(RANKING);
+
+    private record Ranked(String destination, int count) {
+    }
+
+    public void add(TripFacts trip) {
+        apply(trip, 1);
+    }
+
+    public void remove(TripFacts trip) {
+        apply(trip, -1);
+    }
+
+    public boolean isEmpty() {
+        return tripCount == 0;
+    }
+
+    private void apply(TripFacts trip, int sign) {
+        tripCount += sign;
+        totalDays += sign * trip.getDays();
+
+        if (trip.getBudget() != null) {
+            budgetedTripCount += sign;
+            BigDecimal budget = BigDecimal.valueOf(trip.getBudget());
+            totalBudget = sign > 0 ? totalBudget.add(budget) : totalBudget.subtract(budget);
+        }
+
+        if (trip.getStartDate() != null) {
+            tripsPerMonth.merge(YearMonth.from(trip.getStartDate()), sign,
+                    (a, b) -> a + b == 0 ? null : a + b);
+        }
+
+        String destination = trip.getDestinationKey();
+        if (!destination.isEmpty()) {
+            int before = destinationCounts.getOrDefault(destination, 0);
+            int after = before + sign;
+            if (before > 0) {
+                destinationRanking.remove(new Ranked(destination, before));
+            }
+            if (after > 0) {
+                destinationCounts.put(destination, after);
+                destinationRanking.add(new Ranked(destination, after));
+            } else {
+                destinationCounts.remove(destination);
+            }
+        }
+    }
+
+    /**
+     * 응답으로 변환
+     *
+     * @param topDestinations 인기 여행지 개수
+     * @return 통계 응답
+     */
+    public TripAnalyticsResponse toResponse(int topDestinations) {
+        Map<String, Integer> perMonth = new LinkedHashMap<>();
+        tripsPerMonth.forEach((month, count) -> perMonth.put(month.toString(), count));
+
+        return TripAnalyticsResponse.builder()
+                .tripCount(tripCount)
+                .budgetedTripCount(budgetedTripCount)
+                .totalBudget(totalBudget.doubleValue())
+                .averageBudget(budgetedTripCount == 0 ? 0
+                        : totalBudget.divide(BigDecimal.valueOf(budgetedTripCount), 2, RoundingMode.HALF_UP).doubleValue())
+                .averageTripDays(tripCount == 0 ? 0 : (double) totalDays / tripCount)
+                .tripsPerMonth(perMonth)
+                .topDestinations(destinationRanking.stream()
+                        .limit(topDestinations)
+                        .map(r -> new TripAnalyticsResponse.DestinationCount(r.destination(), r.count()))
+                        .toList())
+                .build();
+    }
+}
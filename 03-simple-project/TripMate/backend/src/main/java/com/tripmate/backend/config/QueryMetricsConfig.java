@@ -0,0 +1,27 @@
+package com.tripmate.backend.config;
+
+import com.tripmate.backend.metrics.QueryMetrics;
+import com.tripmate.backend.metrics.QueryMetricsInspector;
+import com.tripmate.backend.metrics.QueryTimingListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * SQL 메트릭 설정
+ *
+ * Hibernate에 StatementInspector(쿼리 모양 집계)와
+ * SessionEventListener(JDBC 실행 시간 측정)를 등록합니다.
+ */
+@Configuration
+public class QueryMetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryMetricsHibernateCustomizer(QueryMetrics queryMetrics) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryMetricsInspector(queryMetrics));
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, QueryTimingListener.class.getName());
+        };
+    }
+}
@@ -3,6 +3,7 @@ package com.tripmate.backend.config;
 import com.tripmate.backend.security.JwtAuthenticationFilter;
 import com.tripmate.backend.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -47,11 +48,14 @@ public class SecurityConfig {
      * - 복호화 불가능 (비밀번호를 알아낼 수 없음)
      * - 느린 속도로 Brute Force 공격 방어
      *
+     * 실제 해싱은 PasswordHasher가 전용 스레드 풀에서 실행합니다.
+     *
+     * @param strength work factor (2^strength 번 반복, 기본 10)
      * @return BCryptPasswordEncoder
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     /**
@@ -86,6 +90,9 @@ public class SecurityConfig {
                                 "/error"                 // 에러 페이지
                         ).permitAll()
 
+                        // SQL 메트릭은 관리자만 (쿼리 모양 = 스키마 노출, DELETE는 지표 초기화)
+                        .requestMatchers("/metrics/**").hasRole("ADMIN")
+
                         // 나머지는 모두 인증 필요
                         .anyRequest().authenticated()
                 )
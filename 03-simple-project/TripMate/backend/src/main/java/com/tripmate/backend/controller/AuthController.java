@@ -3,6 +3,8 @@ package com.tripmate.backend.controller;
 import com.tripmate.backend.dto.request.LoginRequest;
 import com.tripmate.backend.dto.request.SignupRequest;
 import com.tripmate.backend.dto.response.AuthResponse;
+import com.tripmate.backend.security.CurrentUser;
+import com.tripmate.backend.security.UserPrincipal;
 import com.tripmate.backend.service.AuthService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -65,6 +67,29 @@ public class AuthController {
         return ResponseEntity.ok(response);  // 200 OK
     }
 
+    /**
+     * 회원 탈퇴(계정 비활성화) API
+     *
+     * DELETE /api/auth/me
+     *
+     * 비활성화 이전에 발급된 토큰은 모두 거부됩니다.
+     * (/auth/**는 permitAll이므로 토큰이 없으면 직접 401 반환)
+     *
+     * @param user 현재 로그인한 사용자
+     * @return 204 No Content
+     */
+    @DeleteMapping("/me")
+    public ResponseEntity<Void> deactivate(@CurrentUser UserPrincipal user) {
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        log.info("계정 비활성화 요청: userId={}", user.getId());
+
+        authService.deactivate(user.getId());
+
+        return ResponseEntity.noContent().build();  // 204 No Content
+    }
+
     /**
      * 이메일 중복 체크 API
      *
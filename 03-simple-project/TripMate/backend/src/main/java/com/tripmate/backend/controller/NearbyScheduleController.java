@@ -0,0 +1,72 @@
+package com.tripmate.backend.controller;
+
+import com.tripmate.backend.dto.response.NearbyScheduleResponse;
+import com.tripmate.backend.security.CurrentUser;
+import com.tripmate.backend.security.UserPrincipal;
+import com.tripmate.backend.service.ScheduleLocationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 근처 일정 컨트롤러 (지도)
+ *
+ * Base URL: /api/schedules
+ * 내 여행과 공개 여행의 일정만 검색됨
+ */
+@RestController
+@RequestMapping("/schedules")
+@RequiredArgsConstructor
+public class NearbyScheduleController {
+
+    private final ScheduleLocationService scheduleLocationService;
+
+    /**
+     * 반경 내 일정 검색
+     *
+     * GET /api/schedules/nearby?lat=33.45&lng=126.57&radiusKm=5&limit=50
+     *
+     * @param lat 중심 위도
+     * @param lng 중심 경도
+     * @param radiusKm 반경 (km, 최대 500)
+     * @param limit 최대 개수 (최대 200)
+     * @param user 로그인한 사용자
+     * @return 200 OK + 가까운 순 일정 목록
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyScheduleResponse>> findNearby(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "5") double radiusKm,
+            @RequestParam(defaultValue = "50") int limit,
+            @CurrentUser UserPrincipal user
+    ) {
+        return ResponseEntity.ok(scheduleLocationService.findWithin(lat, lng, radiusKm, limit, user.getId()));
+    }
+
+    /**
+     * 가장 가까운 일정 k개
+     *
+     * GET /api/schedules/nearest?lat=33.45&lng=126.57&k=10
+     *
+     * @param lat 중심 위도
+     * @param lng 중심 경도
+     * @param k 개수 (최대 200)
+     * @param user 로그인한 사용자
+     * @return 200 OK + 가까운 순 일정 목록
+     */
+    @GetMapping("/nearest")
+    public ResponseEntity<List<NearbyScheduleResponse>> findNearest(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "10") int k,
+            @CurrentUser UserPrincipal user
+    ) {
+        return ResponseEntity.ok(scheduleLocationService.findNearest(lat, lng, k, user.getId()));
+    }
+}
@@ -0,0 +1,60 @@
+package com.tripmate.backend.controller;
+
+import com.tripmate.backend.dto.response.QueryMetricsResponse;
+import com.tripmate.backend.metrics.QueryMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * SQL 메트릭 컨트롤러
+ *
+ * Base URL: /api/metrics
+ * show_sql 로그 없이 느린 쿼리, N+1 의심 쿼리를 확인
+ * ROLE_ADMIN만 접근 가능 (SecurityConfig, 관리자 계정은 auth.admin-emails)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/metrics")
+@RequiredArgsConstructor
+public class QueryMetricsController {
+
+    // 응답에 포함할 쿼리 모양 최대 개수
+    private static final int MAX_LIMIT = 200;
+
+    private final QueryMetrics queryMetrics;
+
+    /**
+     * 쿼리 모양별 통계 + N+1 의심 목록
+     *
+     * GET /api/metrics/queries?limit=50
+     *
+     * @param limit 최대 개수 (총 실행 시간 순)
+     * @return 200 OK + 메트릭
+     */
+    @GetMapping("/queries")
+    public ResponseEntity<QueryMetricsResponse> getQueryMetrics(
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        return ResponseEntity.ok(queryMetrics.snapshot(Math.max(1, Math.min(limit, MAX_LIMIT))));
+    }
+
+    /**
+     * 메트릭 초기화 (배포/튜닝 전후 비교용)
+     *
+     * DELETE /api/metrics/queries
+     *
+     * @return 204 No Content
+     */
+    @DeleteMapping("/queries")
+    public ResponseEntity<Void> resetQueryMetrics() {
+        log.info("SQL 메트릭 초기화");
+        queryMetrics.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,164 @@
+package com.tripmate.backend.controller;
+
+import com.tripmate.backend.dto.request.ScheduleCreateRequest;
+import com.tripmate.backend.dto.request.ScheduleReorderRequest;
+import com.tripmate.backend.dto.request.ScheduleUpdateRequest;
+import com.tripmate.backend.dto.response.RouteOptimizationResponse;
+import com.tripmate.backend.dto.response.ScheduleResponse;
+import com.tripmate.backend.security.CurrentUser;
+import com.tripmate.backend.security.UserPrincipal;
+import com.tripmate.backend.service.RouteOptimizationService;
+import com.tripmate.backend.service.ScheduleService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일정 컨트롤러
+ *
+ * Base URL: /api/trips/{tripId}/schedules
+ * 모든 API는 인증 필요 (JWT 토큰)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/trips/{tripId}/schedules")
+@RequiredArgsConstructor
+public class ScheduleController {
+
+    private final ScheduleService scheduleService;
+    private final RouteOptimizationService routeOptimizationService;
+
+    /**
+     * 일정 추가
+     *
+     * POST /api/trips/{tripId}/schedules
+     *
+     * @param tripId 여행 ID
+     * @param request 일정 생성 요청
+     * @param user 로그인한 사용자
+     * @return 201 Created + 생성된 일정 정보
+     */
+    @PostMapping
+    public ResponseEntity<ScheduleResponse> createSchedule(
+            @PathVariable Long tripId,
+            @Valid @RequestBody ScheduleCreateRequest request,
+            @CurrentUser UserPrincipal user
+    ) {
+        ScheduleResponse response = scheduleService.createSchedule(tripId, request, user.getId());
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(response);
+    }
+
+    /**
+     * 여행 전체 일정표 조회
+     *
+     * GET /api/trips/{tripId}/schedules
+     *
+     * @param tripId 여행 ID
+     * @param user 로그인한 사용자
+     * @return 200 OK + 일정 목록 (날짜 → 순서)
+     */
+    @GetMapping
+    public ResponseEntity<List<ScheduleResponse>> getItinerary(
+            @PathVariable Long tripId,
+            @CurrentUser UserPrincipal user
+    ) {
+        return ResponseEntity.ok(scheduleService.getItinerary(tripId, user.getId()));
+    }
+
+    /**
+     * 일정 수정
+     *
+     * PUT /api/trips/{tripId}/schedules/{scheduleId}
+     *
+     * @param tripId 여행 ID
+     * @param scheduleId 일정 ID
+     * @param request 수정 요청
+     * @param user 로그인한 사용자
+     * @return 200 OK + 수정된 일정 정보
+     */
+    @PutMapping("/{scheduleId}")
+    public ResponseEntity<ScheduleResponse> updateSchedule(
+            @PathVariable Long tripId,
+            @PathVariable Long scheduleId,
+            @Valid @RequestBody ScheduleUpdateRequest request,
+            @CurrentUser UserPrincipal user
+    ) {
+        return ResponseEntity.ok(scheduleService.updateSchedule(tripId, scheduleId, request, user.getId()));
+    }
+
+    /**
+     * 일정 삭제
+     *
+     * DELETE /api/trips/{tripId}/schedules/{scheduleId}
+     *
+     * @param tripId 여행 ID
+     * @param scheduleId 일정 ID
+     * @param user 로그인한 사용자
+     * @return 204 No Content
+     */
+    @DeleteMapping("/{scheduleId}")
+    public ResponseEntity<Void> deleteSchedule(
+            @PathVariable Long tripId,
+            @PathVariable Long scheduleId,
+            @CurrentUser UserPrincipal user
+    ) {
+        scheduleService.deleteSchedule(tripId, scheduleId, user.getId());
+
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 하루 일정 순서 일괄 변경
+     *
+     * PUT /api/trips/{tripId}/schedules/order
+     * Body: { "date": "2024-11-01", "scheduleIds": [12, 10, 11] }
+     *
+     * @param tripId 여행 ID
+     * @param request 새 순서
+     * @param user 로그인한 사용자
+     * @return 200 OK + 변경된 그 날짜의 일정 목록
+     */
+    @PutMapping("/order")
+    public ResponseEntity<List<ScheduleResponse>> reorderSchedules(
+            @PathVariable Long tripId,
+            @Valid @RequestBody ScheduleReorderRequest request,
+            @CurrentUser UserPrincipal user
+    ) {
+        log.info("일정 순서 변경 요청: tripId={}, date={}", tripId, request.getDate());
+
+        return ResponseEntity.ok(scheduleService.reorderSchedules(tripId, request, user.getId()));
+    }
+
+    /**
+     * 동선 최적화 (방문 순서 자동 정렬)
+     *
+     * POST /api/trips/{tripId}/schedules/optimize?date=2024-11-01&timeBudgetMs=500
+     *
+     * @param tripId 여행 ID
+     * @param date 특정 날짜만 (생략하면 전체 날짜)
+     * @param timeBudgetMs 계산 시간 예산 (ms, 최대 5000)
+     * @param user 로그인한 사용자
+     * @return 200 OK + 날짜별 최적화 결과
+     */
+    @PostMapping("/optimize")
+    public ResponseEntity<RouteOptimizationResponse> optimizeRoute(
+            @PathVariable Long tripId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "500") long timeBudgetMs,
+            @CurrentUser UserPrincipal user
+    ) {
+        log.info("동선 최적화 요청: tripId={}, date={}", tripId, date);
+
+        return ResponseEntity.ok(routeOptimizationService.optimize(tripId, date, timeBudgetMs, user.getId()));
+    }
+}
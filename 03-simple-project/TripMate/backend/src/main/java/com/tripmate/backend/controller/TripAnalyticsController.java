@@ -0,0 +1,58 @@
+package com.tripmate.backend.controller;
+
+import com.tripmate.backend.dto.response.TripAnalyticsResponse;
+import com.tripmate.backend.security.CurrentUser;
+import com.tripmate.backend.security.UserPrincipal;
+import com.tripmate.backend.service.TripAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 여행 통계 컨트롤러 (대시보드)
+ *
+ * Base URL: /api/analytics/trips
+ * 메모리 누적값을 그대로 읽으므로 DB 조회 없음
+ */
+@RestController
+@RequestMapping("/analytics/trips")
+@RequiredArgsConstructor
+public class TripAnalyticsController {
+
+    private final TripAnalyticsService tripAnalyticsService;
+
+    /**
+     * 전체 여행 통계 (공개 여행만, 비공개 여행은 내 통계에만 포함)
+     *
+     * GET /api/analytics/trips?top=10
+     *
+     * @param top 인기 여행지 개수 (최대 50)
+     * @return 200 OK + 통계
+     */
+    @GetMapping
+    public ResponseEntity<TripAnalyticsResponse> getGlobalStats(
+            @RequestParam(defaultValue = "10") int top
+    ) {
+        return ResponseEntity.ok(tripAnalyticsService.getGlobalStats(top));
+    }
+
+    /**
+     * 내 여행 통계
+     *
+     * GET /api/analytics/trips/me?top=10
+     *
+     * @param top 인기 여행지 개수 (최대 50)
+     * @param user 로그인한 사용자
+     * @return 200 OK + 통계
+     */
+    @GetMapping("/me")
+    public ResponseEntity<TripAnalyticsResponse> getMyStats(
+            @RequestParam(defaultValue = "10") int top,
+            @CurrentUser UserPrincipal user
+    ) {
+        return ResponseEntity.ok(tripAnalyticsService.getUserStats(user.getId(), top));
+    }
+}
@@ -2,15 +2,22 @@ package com.tripmate.backend.controller;
 
 import com.tripmate.backend.dto.request.TripCreateRequest;
 import com.tripmate.backend.dto.request.TripUpdateRequest;
+import com.tripmate.backend.dto.response.TripDetailResponse;
+import com.tripmate.backend.dto.response.TripPageResponse;
 import com.tripmate.backend.dto.response.TripResponse;
+import com.tripmate.backend.dto.response.TripSearchResponse;
+import com.tripmate.backend.security.CurrentUser;
+import com.tripmate.backend.security.UserPrincipal;
+import com.tripmate.backend.service.TripSearchService;
 import com.tripmate.backend.service.TripService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -27,6 +34,7 @@ import java.util.List;
 public class TripController {
 
     private final TripService tripService;
+    private final TripSearchService tripSearchService;
 
     /**
      * 여행 생성
@@ -34,18 +42,17 @@ public class TripController {
      * POST /api/trips
      *
      * @param request 여행 생성 요청
-     * @param authentication Spring Security 인증 정보
+     * @param user 로그인한 사용자 (JWT에서 복원)
      * @return 201 Created + 생성된 여행 정보
      */
     @PostMapping
     public ResponseEntity<TripResponse> createTrip(
             @Valid @RequestBody TripCreateRequest request,
-            Authentication authentication
+            @CurrentUser UserPrincipal user
     ) {
-        String userEmail = authentication.getName(); // JWT에서 추출한 이메일
-        log.info("여행 생성 요청: user={}, title={}", userEmail, request.getTitle());
+        log.info("여행 생성 요청: userId={}, title={}", user.getId(), request.getTitle());
 
-        TripResponse response = tripService.createTrip(request, userEmail);
+        TripResponse response = tripService.createTrip(request, user.getId());
 
         return ResponseEntity
                 .status(HttpStatus.CREATED)
@@ -55,17 +62,22 @@ public class TripController {
     /**
      * 내 여행 목록 조회
      *
-     * GET /api/trips
+     * GET /api/trips?cursor={nextCursor}&size=20
      *
-     * @param authentication Spring Security 인증 정보
-     * @return 200 OK + 여행 목록
+     * @param user 로그인한 사용자 (JWT에서 복원)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 100)
+     * @return 200 OK + 여행 목록 페이지
      */
     @GetMapping
-    public ResponseEntity<List<TripResponse>> getMyTrips(Authentication authentication) {
-        String userEmail = authentication.getName();
-        log.info("내 여행 목록 조회: user={}", userEmail);
+    public ResponseEntity<TripPageResponse> getMyTrips(
+            @CurrentUser UserPrincipal user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        log.info("내 여행 목록 조회: userId={}", user.getId());
 
-        List<TripResponse> trips = tripService.getMyTrips(userEmail);
+        TripPageResponse trips = tripService.getMyTrips(user.getId(), cursor, size);
 
         return ResponseEntity.ok(trips);
     }
@@ -76,22 +88,40 @@ public class TripController {
      * GET /api/trips/{id}
      *
      * @param id 여행 ID
-     * @param authentication Spring Security 인증 정보
+     * @param user 로그인한 사용자 (JWT에서 복원)
      * @return 200 OK + 여행 상세 정보
      */
     @GetMapping("/{id}")
     public ResponseEntity<TripResponse> getTripById(
             @PathVariable Long id,
-            Authentication authentication
+            @CurrentUser UserPrincipal user
     ) {
-        String userEmail = authentication.getName();
-        log.info("여행 상세 조회: tripId={}, user={}", id, userEmail);
+        log.info("여행 상세 조회: tripId={}, userId={}", id, user.getId());
 
-        TripResponse trip = tripService.getTripById(id, userEmail);
+        TripResponse trip = tripService.getTripById(id, user.getId());
 
         return ResponseEntity.ok(trip);
     }
 
+    /**
+     * 여행 상세 + 전체 일정 조회
+     *
+     * GET /api/trips/{id}/detail
+     *
+     * @param id 여행 ID
+     * @param user 로그인한 사용자 (JWT에서 복원)
+     * @return 200 OK + 여행 상세 (일정 포함)
+     */
+    @GetMapping("/{id}/detail")
+    public ResponseEntity<TripDetailResponse> getTripDetail(
+            @PathVariable Long id,
+            @CurrentUser UserPrincipal user
+    ) {
+        log.info("여행 상세(일정 포함) 조회: tripId={}, userId={}", id, user.getId());
+
+        return ResponseEntity.ok(tripService.getTripDetail(id, user.getId()));
+    }
+
     /**
      * 여행 수정
      *
@@ -99,19 +129,18 @@ public class TripController {
      *
      * @param id 여행 ID
      * @param request 수정 요청
-     * @param authentication Spring Security 인증 정보
+     * @param user 로그인한 사용자 (JWT에서 복원)
      * @return 200 OK + 수정된 여행 정보
      */
     @PutMapping("/{id}")
     public ResponseEntity<TripResponse> updateTrip(
             @PathVariable Long id,
             @Valid @RequestBody TripUpdateRequest request,
-            Authentication authentication
+            @CurrentUser UserPrincipal user
     ) {
-        String userEmail = authentication.getName();
-        log.info("여행 수정 요청: tripId={}, user={}", id, userEmail);
+        log.info("여행 수정 요청: tripId={}, userId={}", id, user.getId());
 
-        TripResponse trip = tripService.updateTrip(id, request, userEmail);
+        TripResponse trip = tripService.updateTrip(id, request, user.getId());
 
         return ResponseEntity.ok(trip);
     }
@@ -122,36 +151,117 @@ public class TripController {
      * DELETE /api/trips/{id}
      *
      * @param id 여행 ID
-     * @param authentication Spring Security 인증 정보
+     * @param user 로그인한 사용자 (JWT에서 복원)
      * @return 204 No Content
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTrip(
             @PathVariable Long id,
-            Authentication authentication
+            @CurrentUser UserPrincipal user
     ) {
-        String userEmail = authentication.getName();
-        log.info("여행 삭제 요청: tripId={}, user={}", id, userEmail);
+        log.info("여행 삭제 요청: tripId={}, userId={}", id, user.getId());
 
-        tripService.deleteTrip(id, userEmail);
+        tripService.deleteTrip(id, user.getId());
 
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 여행 공개/비공개 전환
+     *
+     * PATCH /api/trips/{id}/public
+     *
+     * @param id 여행 ID
+     * @param user 로그인한 사용자 (JWT에서 복원)
+     * @return 200 OK + 변경된 여행 정보
+     */
+    @PatchMapping("/{id}/public")
+    public ResponseEntity<TripResponse> togglePublic(
+            @PathVariable Long id,
+            @CurrentUser UserPrincipal user
+    ) {
+        log.info("여행 공개 여부 변경 요청: tripId={}, userId={}", id, user.getId());
+
+        TripResponse trip = tripService.togglePublic(id, user.getId());
+
+        return ResponseEntity.ok(trip);
+    }
+
     /**
      * 공개 여행 목록 조회
      *
-     * GET /api/trips/public
+     * GET /api/trips/public?cursor={nextCursor}&size=20
+     *
+     * If-None-Match 헤더의 ETag가 현재 피드와 같으면 본문 없이 304 응답
      *
-     * @return 200 OK + 공개 여행 목록
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 100)
+     * @param webRequest If-None-Match 확인용
+     * @return 200 OK + 공개 여행 목록 페이지, 또는 304 Not Modified
      */
     @GetMapping("/public")
-    public ResponseEntity<List<TripResponse>> getPublicTrips() {
+    public ResponseEntity<TripPageResponse> getPublicTrips(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest
+    ) {
         log.info("공개 여행 목록 조회");
 
-        List<TripResponse> trips = tripService.getPublicTrips();
+        // 1. 변경이 없으면 목록 조회 없이 304
+        String etag = tripService.getPublicFeedETag();
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
 
-        return ResponseEntity.ok(trips);
+        // 2. 변경됐으면 목록 + 새 ETag
+        TripPageResponse trips = tripService.getPublicTrips(cursor, size);
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())  // 캐시하되 매번 ETag로 재검증
+                .body(trips);
+    }
+
+    /**
+     * 공개 여행 검색 (여행지 + 제목)
+     *
+     * GET /api/trips/search?q=제주&page=0&size=20
+     *
+     * @param q 검색어
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기 (최대 100)
+     * @return 200 OK + 검색 결과
+     */
+    @GetMapping("/search")
+    public ResponseEntity<TripSearchResponse> searchTrips(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        log.info("여행 검색: q={}, page={}", q, page);
+
+        TripSearchResponse result = tripSearchService.search(q, page, size);
+
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 여행지 자동완성
+     *
+     * GET /api/trips/search/autocomplete?prefix=제&limit=10
+     *
+     * @param prefix 입력 중인 문자열
+     * @param limit 최대 개수 (최대 20)
+     * @return 200 OK + 여행지 목록
+     */
+    @GetMapping("/search/autocomplete")
+    public ResponseEntity<List<String>> autocomplete(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        List<String> suggestions = tripSearchService.autocomplete(prefix, limit);
+
+        return ResponseEntity.ok(suggestions);
     }
 }
 
@@ -169,6 +279,14 @@ public class TripController {
  * JWT 필터에서 SecurityContext에 저장한 인증 정보를
  * Spring이 자동으로 주입해줌
  *
+ * 지금은 @CurrentUser로 principal(UserPrincipal)을 바로 주입받음:
+ *
+ * @GetMapping
+ * public ResponseEntity<?> getData(@CurrentUser UserPrincipal user) {
+ *     Long userId = user.getId();  // JWT의 uid claim
+ *     // 서비스에 id를 넘기면 사용자를 다시 조회할 필요 없음
+ * }
+ *
  * 흐름:
  * 1. 클라이언트가 JWT 토큰을 Header에 담아 요청
  * 2. JwtAuthenticationFilter에서 토큰 검증
@@ -236,6 +354,13 @@ public class TripController {
  * 인증: JWT 토큰 있음 → 로그인된 사용자
  * 인가: 이 여행의 주인인가? → 수정/삭제 가능
  *
+ * ===== ETag / 304 Not Modified =====
+ *
+ * 1. 첫 요청: 200 OK + ETag: "18f3a...-42"
+ * 2. 다음 요청: If-None-Match: "18f3a...-42"
+ * 3. 공개 여행에 변화가 없으면 304 Not Modified (본문 없음)
+ *    → 목록 조회, JSON 직렬화, 전송 모두 생략
+ *
  * ===== ResponseEntity.noContent() =====
  *
  * 삭제 성공 시:
@@ -0,0 +1,30 @@
+package com.tripmate.backend.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일정 순서 변경 요청 DTO
+ *
+ * 드래그 앤 드롭이 끝난 뒤 그 날짜의 일정 ID를 새 순서대로 한 번에 보냄
+ * 예) { "date": "2024-11-01", "scheduleIds": [12, 10, 11] }
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduleReorderRequest {
+
+    @NotNull(message = "날짜는 필수입니다")
+    private LocalDate date;
+
+    @NotEmpty(message = "일정 순서는 필수입니다")
+    private List<Long> scheduleIds;
+}
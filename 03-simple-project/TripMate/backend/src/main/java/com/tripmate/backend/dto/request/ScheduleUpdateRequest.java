@@ -0,0 +1,38 @@
+package com.tripmate.backend.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 일정 수정 요청 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduleUpdateRequest {
+
+    @NotNull(message = "일정 날짜는 필수입니다")
+    private LocalDate date;
+
+    private String time;
+
+    @NotBlank(message = "일정 제목은 필수입니다")
+    private String title;
+
+    private String location;
+
+    private Double latitude;
+
+    private Double longitude;
+
+    private String description;
+
+    private String category;
+}
@@ -0,0 +1,56 @@
+package com.tripmate.backend.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 여행 목록 커서 (keyset 페이지네이션)
+ *
+ * 마지막으로 받은 여행의 (createdAt, id)를 Base64 문자열로 주고받습니다.
+ * 클라이언트는 응답의 nextCursor를 다음 요청의 cursor 파라미터로 그대로 넘기면 됨
+ */
+@Getter
+@AllArgsConstructor
+public class TripCursor {
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    /**
+     * 커서 문자열로 변환
+     *
+     * @return Base64 URL-safe 문자열
+     */
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @param cursor 클라이언트가 보낸 커서 (없으면 첫 페이지)
+     * @return TripCursor (첫 페이지면 null)
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public static TripCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            return new TripCursor(
+                    LocalDateTime.parse(raw.substring(0, sep)),
+                    Long.parseLong(raw.substring(sep + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다");
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.tripmate.backend.dto.response;
+
+import com.tripmate.backend.geo.GeoGridIndex;
+import com.tripmate.backend.geo.ScheduleLocation;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 근처 일정 응답 DTO (지도 마커용)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NearbyScheduleResponse {
+
+    private Long scheduleId;
+    private Long tripId;
+    private String title;
+    private String location;
+    private Double latitude;
+    private Double longitude;
+
+    // 검색 중심으로부터의 거리 (km)
+    private Double distanceKm;
+
+    /**
+     * 공간 색인 검색 결과를 응답으로 변환
+     */
+    public static NearbyScheduleResponse from(GeoGridIndex.Hit hit) {
+        ScheduleLocation loc = hit.location();
+        return NearbyScheduleResponse.builder()
+                .scheduleId(loc.getScheduleId())
+                .tripId(loc.getTripId())
+                .title(loc.getTitle())
+                .location(loc.getLocation())
+                .latitude(loc.getLatitude())
+                .longitude(loc.getLongitude())
+                .distanceKm(hit.distanceKm())
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.tripmate.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL 메트릭 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QueryMetricsResponse {
+
+    // 준비된 SQL 수 (전체)
+    private long statements;
+
+    // 서로 다른 쿼리 모양 수
+    private int distinctShapes;
+
+    // 집계된 요청 수, 그중 쿼리 예산을 넘은 요청 수
+    private long requests;
+    private long requestsOverBudget;
+
+    // 요청당 쿼리 수 예산
+    private int requestBudget;
+
+    // 쿼리 모양별 통계 (총 실행 시간 순)
+    private List<QueryStat> queries;
+
+    // N+1 의심 목록 (발생 횟수 순)
+    private List<NPlusOneSuspect> suspectedNPlusOne;
+
+    /**
+     * 쿼리 모양 하나의 통계
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class QueryStat {
+
+        // 리터럴을 ?로 바꾼 SQL
+        private String shape;
+
+        // 준비 횟수 / 시간이 측정된 실행 횟수
+        private long statements;
+        private long executions;
+
+        private double totalMs;
+        private double avgMs;
+        private double maxMs;
+
+        // 히스토그램 기준 근사값
+        private double p50Ms;
+        private double p99Ms;
+
+        // 구간 → 실행 횟수 (예: "<5ms": 120)
+        private Map<String, Long> histogram;
+    }
+
+    /**
+     * 같은 쿼리가 한 요청에서 반복된 기록
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class NPlusOneSuspect {
+
+        // "GET /trips/{id}" 형태
+        private String endpoint;
+
+        private String shape;
+
+        // 의심 요청 수, 한 요청에서 최대 반복 횟수
+        private long occurrences;
+        private long maxRepeat;
+    }
+}
@@ -0,0 +1,44 @@
+package com.tripmate.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 동선 최적화 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RouteOptimizationResponse {
+
+    // 날짜별 결과
+    private List<DayRoute> days;
+
+    // 전체 계산 시간 (ms)
+    private long elapsedMs;
+
+    /**
+     * 하루 동선 결과
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class DayRoute {
+
+        private LocalDate date;
+
+        // 최적화 전/후 총 이동 거리 (km, 좌표 있는 일정만)
+        private double beforeKm;
+        private double afterKm;
+
+        // 새 순서의 일정 목록
+        private List<ScheduleResponse> schedules;
+    }
+}
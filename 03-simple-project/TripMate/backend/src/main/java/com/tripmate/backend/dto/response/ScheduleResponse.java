@@ -0,0 +1,57 @@
+package com.tripmate.backend.dto.response;
+
+import com.tripmate.backend.entity.Schedule;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일정 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduleResponse {
+
+    private Long id;
+    private Long tripId;
+    private LocalDate date;
+    private String time;
+    private String title;
+    private String location;
+    private Double latitude;
+    private Double longitude;
+    private String description;
+    private String category;
+    private Integer orderIndex;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    /**
+     * Schedule Entity를 ScheduleResponse로 변환
+     *
+     * trip은 ID만 사용 (Lazy 프록시의 ID 조회는 추가 쿼리 없음)
+     */
+    public static ScheduleResponse from(Schedule schedule) {
+        return ScheduleResponse.builder()
+                .id(schedule.getId())
+                .tripId(schedule.getTrip().getId())
+                .date(schedule.getDate())
+                .time(schedule.getTime())
+                .title(schedule.getTitle())
+                .location(schedule.getLocation())
+                .latitude(schedule.getLatitude())
+                .longitude(schedule.getLongitude())
+                .description(schedule.getDescription())
+                .category(schedule.getCategory())
+                .orderIndex(schedule.getOrderIndex())
+                .createdAt(schedule.getCreatedAt())
+                .updatedAt(schedule.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.tripmate.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여행 통계 응답 DTO (대시보드)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TripAnalyticsResponse {
+
+    // 전체 여행 수, 그중 예산이 입력된 여행 수
+    private int tripCount;
+    private int budgetedTripCount;
+
+    // 예산 합계 / 평균 (예산이 입력된 여행 기준)
+    private double totalBudget;
+    private double averageBudget;
+
+    // 평균 여행 일수 (시작일, 종료일 포함)
+    private double averageTripDays;
+
+    // "2025-04" → 여행 수 (시작일 기준, 오래된 달부터)
+    private Map<String, Integer> tripsPerMonth;
+
+    // 인기 여행지 (여행 수 많은 순)
+    private List<DestinationCount> topDestinations;
+
+    /**
+     * 여행지별 여행 수
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class DestinationCount {
+
+        private String destination;
+
+        private int count;
+    }
+}
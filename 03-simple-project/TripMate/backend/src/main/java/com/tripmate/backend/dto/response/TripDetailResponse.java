@@ -0,0 +1,38 @@
+package com.tripmate.backend.dto.response;
+
+import com.tripmate.backend.entity.Trip;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여행 상세 응답 DTO (여행 + 전체 일정)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TripDetailResponse {
+
+    // 여행 정보 (소유자 포함)
+    private TripResponse trip;
+
+    // 일정 목록 (날짜 → 순서)
+    private List<ScheduleResponse> schedules;
+
+    /**
+     * owner, schedules가 이미 로딩된 Trip을 변환
+     * (TripRepository.findDetailById로 조회한 엔티티 → 추가 쿼리 없음)
+     */
+    public static TripDetailResponse from(Trip trip) {
+        return TripDetailResponse.builder()
+                .trip(TripResponse.from(trip))
+                .schedules(trip.getSchedules().stream()
+                        .map(ScheduleResponse::from)
+                        .toList())
+                .build();
+    }
+}
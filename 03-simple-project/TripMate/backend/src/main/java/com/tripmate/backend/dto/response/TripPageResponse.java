@@ -0,0 +1,54 @@
+package com.tripmate.backend.dto.response;
+
+import com.tripmate.backend.dto.request.TripCursor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여행 목록 페이지 응답 DTO
+ *
+ * 전체 개수(COUNT 쿼리) 없이 다음 페이지 존재 여부와 커서만 내려줍니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TripPageResponse {
+
+    private List<TripResponse> trips;
+
+    // 다음 페이지 요청 시 cursor 파라미터로 전달 (마지막 페이지면 null)
+    private String nextCursor;
+
+    private boolean hasNext;
+
+    /**
+     * size + 1개를 조회한 결과로 페이지 생성
+     *
+     * 한 개를 더 조회해서 다음 페이지가 있는지 판단합니다.
+     *
+     * @param rows 조회 결과 (최대 size + 1개)
+     * @param size 페이지 크기
+     * @return TripPageResponse
+     */
+    public static TripPageResponse of(List<TripResponse> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<TripResponse> trips = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TripResponse last = trips.get(trips.size() - 1);
+            nextCursor = new TripCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return TripPageResponse.builder()
+                .trips(trips)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.tripmate.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여행 검색 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TripSearchResponse {
+
+    // 검색 결과 (관련도 높은 순 → 최신순)
+    private List<TripResponse> trips;
+
+    private int page;
+    private int size;
+
+    // 전체 검색 결과 수
+    private int total;
+}
@@ -12,7 +12,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table
+// 테이블 이름은 기존 기본값(schedule) 그대로 - 바꾸면 기존 행과 trips FK가 이전 테이블에 남음
+@Table(name = "schedule", indexes = {
+        // 여행 일정표 조회 (날짜 → 순서)
+        @Index(name = "idx_schedule_trip_date_order", columnList = "trip_id, date, order_index")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
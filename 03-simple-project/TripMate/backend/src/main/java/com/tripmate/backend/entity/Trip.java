@@ -10,12 +10,18 @@ import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Trip Entity - 여행 정보
  */
 @Entity
-@Table(name = "trips")
+@Table(name = "trips", indexes = {
+        // 목록 커서 페이지네이션용 (공개 피드 / 내 여행)
+        @Index(name = "idx_trips_public_created", columnList = "is_public, created_at, id"),
+        @Index(name = "idx_trips_owner_created", columnList = "user_id, created_at, id")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -82,6 +88,15 @@ public class Trip {
     @JoinColumn(name = "user_id", nullable = false)
     private User owner;
 
+    /**
+     * 여행 일정 (날짜 → 순서)
+     * 상세 조회에서만 EntityGraph로 함께 로딩, 평소에는 건드리지 않음
+     */
+    @Builder.Default
+    @OneToMany(mappedBy = "trip")
+    @OrderBy("date ASC, orderIndex ASC")
+    private List<Schedule> schedules = new ArrayList<>();
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -149,6 +164,12 @@ public class Trip {
  * - 기본값: @ManyToOne은 EAGER, @OneToMany는 LAZY
  * - 추천: 명시적으로 LAZY 사용
  *
+ * ===== @OneToMany schedules =====
+ *
+ * mappedBy = "trip": FK(trip_id)는 Schedule 쪽이 관리 (Trip 테이블에 컬럼 없음)
+ * 목록 조회에서는 절대 건드리지 않고, 상세 조회에서만 EntityGraph로 한 번에 로딩
+ * → trip.getSchedules()를 그냥 호출하면 추가 쿼리 (Lazy)
+ *
  * ===== LocalDate vs LocalDateTime =====
  *
  * LocalDate:
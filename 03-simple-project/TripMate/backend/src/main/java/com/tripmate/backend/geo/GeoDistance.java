@@ -0,0 +1,38 @@
+package com.tripmate.backend.geo;
+
+/**
+ * 위도/경도 거리 계산
+ */
+public final class GeoDistance {
+
+    // 지구 반지름 (km)
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    // 위도 1도의 거리 (km)
+    public static final double KM_PER_LAT_DEGREE = 111.32;
+
+    private GeoDistance() {
+    }
+
+    /**
+     * 두 지점 사이 거리 (하버사인 공식)
+     *
+     * @return 거리 (km)
+     */
+    public static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 해당 위도에서 경도 1도의 거리 (km)
+     * 극지방에서 0이 되지 않도록 하한을 둠
+     */
+    public static double kmPerLonDegree(double lat) {
+        return KM_PER_LAT_DEGREE * Math.max(0.01, Math.cos(Math.toRadians(lat)));
+    }
+}
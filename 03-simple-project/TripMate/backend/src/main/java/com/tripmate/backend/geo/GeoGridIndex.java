@@ -0,0 +1,284 @@
+package com.tripmate.backend.geo;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * 격자(grid) 공간 색인
+ *
+ * 위도/경도를 cellDegrees 크기의 칸으로 나누고, 칸마다 들어있는 일정 목록을 저장합니다.
+ * (geohash와 같은 원리를 고정 크기 칸으로 단순화)
+ *
+ * - 반경 검색: 원을 덮는 칸만 확인 → 전체 스캔 없음
+ * - k개 최근접: 중심 칸부터 한 겹씩 넓혀가며 확인, 더 먼 칸에 더 가까운 점이 있을 수 없으면 중단
+ * - 극지방 근사: 경도 칸이 좁아져도 확인하는 칸 수는 위도 칸 기준으로 제한 (경도 방향 끝 쪽 점은 놓칠 수 있음)
+ *
+ * 읽기(검색)는 동시에, 쓰기(추가/삭제)는 하나씩 (ReadWriteLock)
+ */
+public class GeoGridIndex {
+
+    // 검색 결과: 일정 위치 + 거리(km)
+    public record Hit(ScheduleLocation location, double distanceKm) {
+    }
+
+    private static final Comparator<Hit> NEAREST_FIRST = Comparator.comparingDouble(Hit::distanceKm);
+
+    private final double cellDegrees;
+
+    // 위도/경도 방향 칸 개수 (검색 범위를 지구 안으로 제한)
+    private final int latCells;
+    private final int lonCells;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 칸 키 → 칸 안의 일정 위치들
+    private final Map<Long, List<ScheduleLocation>> cells = new HashMap<>();
+
+    // scheduleId → 위치 (삭제/이동 시 기존 칸 찾기용)
+    private final Map<Long, ScheduleLocation> byId = new HashMap<>();
+
+    /**
+     * @param cellDegrees 칸 크기 (도 단위, 0.05도 ≒ 위도 방향 5.5km)
+     */
+    public GeoGridIndex(double cellDegrees) {
+        this.cellDegrees = cellDegrees;
+        this.latCells = (int) Math.ceil(180.0 / cellDegrees) + 1;
+        this.lonCells = (int) Math.ceil(360.0 / cellDegrees) + 1;
+    }
+
+    /**
+     * 위치 추가/이동
+     */
+    public void put(ScheduleLocation location) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(location.getScheduleId());
+            byId.put(location.getScheduleId(), location);
+            cells.computeIfAbsent(cellKey(location.getLatitude(), location.getLongitude()), k -> new ArrayList<>())
+                    .add(location);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 위치 제거
+     */
+    public void remove(Long scheduleId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(scheduleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 조건에 맞는 위치 모두 제거 (예: 삭제된 여행의 일정)
+     *
+     * @return 제거된 위치 (다른 색인으로 옮길 때 사용)
+     */
+    public List<ScheduleLocation> removeIf(Predicate<ScheduleLocation> filter) {
+        lock.writeLock().lock();
+        try {
+            List<ScheduleLocation> removed = byId.values().stream()
+                    .filter(filter)
+                    .toList();
+            removed.forEach(loc -> removeInternal(loc.getScheduleId()));
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 반경 검색
+     *
+     * @param lat 중심 위도
+     * @param lon 중심 경도
+     * @param radiusKm 반경 (km)
+     * @param filter 결과 조건 (권한 등)
+     * @param limit 최대 개수
+     * @return 가까운 순 결과
+     */
+    public List<Hit> within(double lat, double lon, double radiusKm, Predicate<ScheduleLocation> filter, int limit) {
+        // 1. 원을 덮는 칸 범위 계산 (지구 밖 칸은 제외, 극지방에서도 경도 방향은 최대 한 바퀴)
+        double dLat = radiusKm / GeoDistance.KM_PER_LAT_DEGREE;
+        double dLon = Math.min(180.0, radiusKm / GeoDistance.kmPerLonDegree(Math.min(89.0, Math.abs(lat) + dLat)));
+        int minLat = Math.max(0, latCell(lat - dLat));
+        int maxLat = Math.min(latCells - 1, latCell(lat + dLat));
+        int minLon = Math.max(0, lonCell(lon - dLon));
+        int maxLon = Math.min(lonCells - 1, lonCell(lon + dLon));
+
+        lock.readLock().lock();
+        try {
+            // 2. 칸 안의 점 중 실제 거리가 반경 이내인 것만
+            List<Hit> hits = new ArrayList<>();
+            long rangeCells = (long) (maxLat - minLat + 1) * (maxLon - minLon + 1);
+            if (rangeCells > cells.size()) {
+                // 범위가 점이 있는 칸 수보다 넓으면 (극지방 등) 점이 있는 칸만 훑음
+                for (Map.Entry<Long, List<ScheduleLocation>> entry : cells.entrySet()) {
+                    int la = (int) (entry.getKey() >> 32);
+                    int lo = (int) (long) entry.getKey();
+                    if (la >= minLat && la <= maxLat && lo >= minLon && lo <= maxLon) {
+                        collect(entry.getValue(), lat, lon, radiusKm, filter, hits);
+                    }
+                }
+            } else {
+                for (int la = minLat; la <= maxLat; la++) {
+                    for (int lo = minLon; lo <= maxLon; lo++) {
+                        List<ScheduleLocation> cell = cells.get(key(la, lo));
+                        if (cell != null) {
+                            collect(cell, lat, lon, radiusKm, filter, hits);
+                        }
+                    }
+                }
+            }
+            hits.sort(NEAREST_FIRST);
+            return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void collect(List<ScheduleLocation> cell, double lat, double lon, double radiusKm,
+                                Predicate<ScheduleLocation> filter, List<Hit> hits) {
+        for (ScheduleLocation loc : cell) {
+            double d = GeoDistance.haversineKm(lat, lon, loc.getLatitude(), loc.getLongitude());
+            if (d <= radiusKm && filter.test(loc)) {
+                hits.add(new Hit(loc, d));
+            }
+        }
+    }
+
+    /**
+     * k개 최근접 검색
+     *
+     * @param lat 중심 위도
+     * @param lon 중심 경도
+     * @param k 개수
+     * @param maxRadiusKm 이보다 먼 점은 찾지 않음
+     * @param filter 결과 조건 (권한 등)
+     * @return 가까운 순 결과 (최대 k개)
+     */
+    public List<Hit> nearest(double lat, double lon, int k, double maxRadiusKm, Predicate<ScheduleLocation> filter) {
+        int centerLat = latCell(lat);
+        int centerLon = lonCell(lon);
+
+        // 최대 반경 안의 점은 위도 방향으로 이 겹 수 안에 있음 (위도 칸 크기는 어디서나 같음)
+        // 극지방은 경도 칸이 아주 좁아지므로 경도 칸 기준으로 세면 수천 겹을 돌게 됨
+        int maxRings = (int) Math.ceil(maxRadiusKm / (cellDegrees * GeoDistance.KM_PER_LAT_DEGREE));
+
+        // 가장 먼 것이 맨 위에 오는 힙 (크기 k 유지)
+        PriorityQueue<Hit> heap = new PriorityQueue<>(NEAREST_FIRST.reversed());
+
+        lock.readLock().lock();
+        try {
+            for (int ring = 0; ring <= maxRings; ring++) {
+                // 1. ring 번째 겹의 칸들 확인 (지구 밖 칸 제외, 경도 방향은 최대 한 바퀴)
+                int minLon = Math.max(0, centerLon - ring);
+                int maxLon = Math.min(lonCells - 1, centerLon + ring);
+                for (int la = Math.max(0, centerLat - ring); la <= Math.min(latCells - 1, centerLat + ring); la++) {
+                    // 테두리 칸만 (안쪽은 이전 겹에서 확인함): 위/아래 줄은 전체, 나머지 줄은 양 끝만
+                    if (Math.abs(la - centerLat) == ring) {
+                        for (int lo = minLon; lo <= maxLon; lo++) {
+                            offerCell(la, lo, lat, lon, k, maxRadiusKm, filter, heap);
+                        }
+                    } else {
+                        if (centerLon - ring >= 0) {
+                            offerCell(la, centerLon - ring, lat, lon, k, maxRadiusKm, filter, heap);
+                        }
+                        if (centerLon + ring < lonCells) {
+                            offerCell(la, centerLon + ring, lat, lon, k, maxRadiusKm, filter, heap);
+                        }
+                    }
+                }
+
+                // 2. 아직 안 본 칸까지의 최소 거리 (한 칸의 가장 짧은 변 × ring)
+                double cellKm = cellDegrees * GeoDistance.kmPerLonDegree(
+                        Math.min(89.0, Math.abs(lat) + (ring + 1) * cellDegrees));
+                double unseenKm = ring * Math.min(cellKm, cellDegrees * GeoDistance.KM_PER_LAT_DEGREE);
+
+                // 3. k개를 찾았고 더 먼 칸에 더 가까운 점이 없으면 중단
+                if (heap.size() == k && heap.peek().distanceKm() <= unseenKm) {
+                    break;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Hit> result = new ArrayList<>(heap);
+        result.sort(NEAREST_FIRST);
+        return result;
+    }
+
+    private void offerCell(int la, int lo, double lat, double lon, int k, double maxRadiusKm,
+                           Predicate<ScheduleLocation> filter, PriorityQueue<Hit> heap) {
+        List<ScheduleLocation> cell = cells.get(key(la, lo));
+        if (cell == null) {
+            return;
+        }
+        for (ScheduleLocation loc : cell) {
+            double d = GeoDistance.haversineKm(lat, lon, loc.getLatitude(), loc.getLongitude());
+            if (d > maxRadiusKm || !filter.test(loc)) {
+                continue;
+            }
+            heap.offer(new Hit(loc, d));
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+    }
+
+    /**
+     * 색인된 위치 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(Long scheduleId) {
+        ScheduleLocation old = byId.remove(scheduleId);
+        if (old == null) {
+            return;
+        }
+        long key = cellKey(old.getLatitude(), old.getLongitude());
+        List<ScheduleLocation> cell = cells.get(key);
+        if (cell != null) {
+            cell.removeIf(loc -> loc.getScheduleId().equals(scheduleId));
+            if (cell.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    private long cellKey(double lat, double lon) {
+        return key(latCell(lat), lonCell(lon));
+    }
+
+    private int latCell(double lat) {
+        return (int) Math.floor((lat + 90.0) / cellDegrees);
+    }
+
+    private int lonCell(double lon) {
+        return (int) Math.floor((lon + 180.0) / cellDegrees);
+    }
+
+    // 위도 칸(상위 32비트) + 경도 칸(하위 32비트)
+    private static long key(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+    }
+}
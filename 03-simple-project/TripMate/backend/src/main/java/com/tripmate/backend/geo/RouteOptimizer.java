@@ -0,0 +1,225 @@
+package com.tripmate.backend.geo;
+
+/**
+ * 하루 일정 방문 순서 최적화 (열린 경로, 출발지 고정)
+ *
+ * 1. 최근접 이웃(Nearest Neighbour)으로 초기 경로 생성
+ * 2. 2-opt: 경로 일부를 뒤집어서 교차하는 구간 제거
+ * 3. Or-opt: 연속된 1~3개 일정을 다른 위치로 옮기기
+ * 2~3을 더 이상 좋아지지 않거나 시간 예산이 끝날 때까지 반복
+ *
+ * 거리는 n×n 크기의 double[] 한 개(행 우선)에 미리 계산해 둡니다.
+ * 상태가 없는 유틸리티라 여러 스레드에서 동시에 사용해도 됨
+ */
+public final class RouteOptimizer {
+
+    // 부동소수점 오차로 같은 이동을 반복하지 않기 위한 최소 개선량 (km)
+    private static final double EPSILON = 1e-9;
+
+    private RouteOptimizer() {
+    }
+
+    /**
+     * 방문 순서 계산
+     *
+     * @param lats 위도 (0번이 출발지, 출발지는 고정)
+     * @param lons 경도
+     * @param deadlineNanos 이 시각(System.nanoTime 기준)이 지나면 현재까지의 결과 반환
+     * @return 방문 순서 (입력 인덱스 배열, 첫 값은 항상 0)
+     */
+    public static int[] optimize(double[] lats, double[] lons, long deadlineNanos) {
+        int n = lats.length;
+        if (n == 0) {
+            return new int[0];
+        }
+        double[] dist = distanceMatrix(lats, lons);
+        int[] tour = nearestNeighbour(dist, n);
+        if (n <= 3) {
+            // 출발지 고정 + 나머지 2개 이하는 최근접 이웃이 곧 최적
+            return tour;
+        }
+
+        boolean improved = true;
+        while (improved && System.nanoTime() < deadlineNanos) {
+            improved = twoOpt(tour, dist, n, deadlineNanos);
+            improved |= orOpt(tour, dist, n, deadlineNanos);
+        }
+        return tour;
+    }
+
+    /**
+     * 경로 총 거리 (km)
+     *
+     * @param lats 위도
+     * @param lons 경도
+     * @param order 방문 순서
+     * @return 총 이동 거리
+     */
+    public static double pathLengthKm(double[] lats, double[] lons, int[] order) {
+        double total = 0;
+        for (int i = 1; i < order.length; i++) {
+            total += GeoDistance.haversineKm(lats[order[i - 1]], lons[order[i - 1]], lats[order[i]], lons[order[i]]);
+        }
+        return total;
+    }
+
+    /**
+     * 거리 행렬 (dist[i * n + j] = i → j 거리)
+     */
+    static double[] distanceMatrix(double[] lats, double[] lons) {
+        int n = lats.length;
+        double[] dist = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                double d = GeoDistance.haversineKm(lats[i], lons[i], lats[j], lons[j]);
+                dist[i * n + j] = d;
+                dist[j * n + i] = d;
+            }
+        }
+        return dist;
+    }
+
+    /**
+     * 최근접 이웃: 출발지에서 시작해 가장 가까운 미방문 지점으로 이동
+     */
+    private static int[] nearestNeighbour(double[] dist, int n) {
+        int[] tour = new int[n];
+        boolean[] visited = new boolean[n];
+        visited[0] = true;
+        for (int pos = 1; pos < n; pos++) {
+            int from = tour[pos - 1];
+            int best = -1;
+            double bestDist = Double.MAX_VALUE;
+            for (int j = 0; j < n; j++) {
+                if (!visited[j] && dist[from * n + j] < bestDist) {
+                    best = j;
+                    bestDist = dist[from * n + j];
+                }
+            }
+            tour[pos] = best;
+            visited[best] = true;
+        }
+        return tour;
+    }
+
+    /**
+     * 2-opt 한 바퀴: tour[i..j]를 뒤집어서 짧아지면 적용
+     *
+     * 열린 경로라 j가 마지막이면 뒤쪽 간선이 없음
+     */
+    private static boolean twoOpt(int[] tour, double[] dist, int n, long deadlineNanos) {
+        boolean improved = false;
+        for (int i = 1; i < n - 1; i++) {
+            if (System.nanoTime() >= deadlineNanos) {
+                return improved;
+            }
+            int a = tour[i - 1];
+            int b = tour[i];
+            for (int j = i + 1; j < n; j++) {
+                int c = tour[j];
+                double delta = dist[a * n + c] - dist[a * n + b];
+                if (j + 1 < n) {
+                    int e = tour[j + 1];
+                    delta += dist[b * n + e] - dist[c * n + e];
+                }
+                if (delta < -EPSILON) {
+                    reverse(tour, i, j);
+                    b = tour[i];
+                    improved = true;
+                }
+            }
+        }
+        return improved;
+    }
+
+    /**
+     * Or-opt 한 바퀴: 연속된 1~3개 구간을 다른 위치로 (정방향/역방향) 옮겨서 짧아지면 적용
+     */
+    private static boolean orOpt(int[] tour, double[] dist, int n, long deadlineNanos) {
+        boolean improved = false;
+        for (int len = 1; len <= 3; len++) {
+            for (int i = 1; i + len <= n; i++) {
+                if (System.nanoTime() >= deadlineNanos) {
+                    return improved;
+                }
+                int end = i + len - 1;
+                int s0 = tour[i];
+                int s1 = tour[end];
+                int prev = tour[i - 1];
+                int next = (end + 1 < n) ? tour[end + 1] : -1;
+
+                // 1. 구간을 빼냈을 때 줄어드는 거리
+                double removeGain = dist[prev * n + s0]
+                        + (next >= 0 ? dist[s1 * n + next] - dist[prev * n + next] : 0);
+
+                // 2. 다른 간선 (p, q) 사이에 끼워 넣는 비용 중 최소
+                double bestCost = removeGain - EPSILON;
+                int bestPos = -1;
+                boolean bestReversed = false;
+                for (int k = 0; k < n; k++) {
+                    // 구간 안쪽이거나 원래 자리(prev 뒤)는 제외
+                    if (k >= i - 1 && k <= end) {
+                        continue;
+                    }
+                    int p = tour[k];
+                    int q = (k + 1 < n) ? tour[k + 1] : -1;
+                    double base = (q >= 0) ? dist[p * n + q] : 0;
+                    double forward = dist[p * n + s0] + (q >= 0 ? dist[s1 * n + q] : 0) - base;
+                    double backward = dist[p * n + s1] + (q >= 0 ? dist[s0 * n + q] : 0) - base;
+                    if (forward < bestCost) {
+                        bestCost = forward;
+                        bestPos = k;
+                        bestReversed = false;
+                    }
+                    if (backward < bestCost) {
+                        bestCost = backward;
+                        bestPos = k;
+                        bestReversed = true;
+                    }
+                }
+
+                // 3. 더 짧아지는 위치가 있으면 이동
+                if (bestPos >= 0) {
+                    moveSegment(tour, i, end, bestPos, bestReversed);
+                    improved = true;
+                }
+            }
+        }
+        return improved;
+    }
+
+    /**
+     * tour[i..end] 구간을 tour[pos] 뒤로 옮김
+     */
+    private static void moveSegment(int[] tour, int i, int end, int pos, boolean reversed) {
+        int n = tour.length;
+        int len = end - i + 1;
+        int[] segment = new int[len];
+        for (int k = 0; k < len; k++) {
+            segment[k] = reversed ? tour[end - k] : tour[i + k];
+        }
+
+        int[] result = new int[n];
+        int w = 0;
+        for (int k = 0; k < n; k++) {
+            if (k >= i && k <= end) {
+                continue;
+            }
+            result[w++] = tour[k];
+            if (k == pos) {
+                for (int s : segment) {
+                    result[w++] = s;
+                }
+            }
+        }
+        System.arraycopy(result, 0, tour, 0, n);
+    }
+
+    private static void reverse(int[] tour, int from, int to) {
+        while (from < to) {
+            int tmp = tour[from];
+            tour[from++] = tour[to];
+            tour[to--] = tmp;
+        }
+    }
+}
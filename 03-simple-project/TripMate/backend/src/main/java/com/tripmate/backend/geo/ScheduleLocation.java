@@ -0,0 +1,21 @@
+package com.tripmate.backend.geo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 공간 색인에 저장되는 일정 위치 (불변)
+ *
+ * 지도 마커에 필요한 정보만 들고 있음
+ */
+@Getter
+@AllArgsConstructor
+public class ScheduleLocation {
+
+    private final Long scheduleId;
+    private final Long tripId;
+    private final String title;
+    private final String location;
+    private final double latitude;
+    private final double longitude;
+}
@@ -0,0 +1,23 @@
+package com.tripmate.backend.geo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 여행 접근 정보 (근처 일정 검색 시 권한 필터용)
+ */
+@Getter
+@AllArgsConstructor
+public class TripAccess {
+
+    private final Long tripId;
+    private final Long ownerId;
+    private final Boolean isPublic;
+
+    /**
+     * 이 사용자가 볼 수 있는 여행인지 (내 여행이거나 공개 여행)
+     */
+    public boolean isVisibleTo(Long userId) {
+        return Boolean.TRUE.equals(isPublic) || ownerId.equals(userId);
+    }
+}
@@ -0,0 +1,48 @@
+package com.tripmate.backend.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 단위 쿼리 집계 필터
+ *
+ * 요청 시작 시 집계를 열고, 끝나면 예산 초과 / N+1 의심을 판정합니다.
+ * 인증 필터(JWT)에서 실행되는 쿼리도 포함하도록 가장 먼저 실행
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private final QueryMetrics queryMetrics;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        queryMetrics.beginRequest();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            queryMetrics.endRequest(endpointOf(request));
+        }
+    }
+
+    /**
+     * "GET /trips/{id}" 형태 (경로 변수 값 대신 패턴을 사용해 엔드포인트별로 묶음)
+     */
+    private static String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String path = pattern != null ? pattern.toString() : request.getRequestURI();
+        return request.getMethod() + " " + path;
+    }
+}
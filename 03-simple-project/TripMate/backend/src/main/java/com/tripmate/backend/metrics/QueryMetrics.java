@@ -0,0 +1,369 @@
+package com.tripmate.backend.metrics;
+
+import com.tripmate.backend.dto.response.QueryMetricsResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL 실행 메트릭 (메모리)
+ *
+ * show_sql / BasicBinder TRACE 로그 대신 쿼리 모양(SqlShape)별로 숫자만 모읍니다.
+ *
+ * 1. 모양별 실행 횟수, 총/최대 시간, 지연시간 히스토그램
+ * 2. 느린 쿼리 (slow-query-ms 이상)는 모양만 WARN 로그 (바인딩 값은 남기지 않음)
+ * 3. 요청 단위 집계 (QueryBudgetFilter가 시작/종료 호출)
+ *    - 요청당 쿼리 수가 예산을 넘으면 WARN
+ *    - 같은 모양이 한 요청에서 n-plus-one-threshold번 이상 반복되면 N+1 의심으로 기록
+ *
+ * 쿼리 수집: QueryMetricsInspector (Hibernate StatementInspector)
+ * 시간 측정: QueryTimingListener (Hibernate SessionEventListener)
+ */
+@Slf4j
+@Component
+public class QueryMetrics {
+
+    // 히스토그램 구간 상한 (ms), 마지막 구간은 그 이상
+    static final long[] BUCKET_UPPER_MS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000};
+
+    // 모양 수 상한을 넘으면 여기에 합산
+    private static final String OTHER_SHAPE = "(other)";
+
+    // QueryTimingListener는 Hibernate가 세션마다 직접 생성하므로 빈 주입 대신 이 참조를 사용
+    private static volatile QueryMetrics current;
+
+    private final int maxShapes;
+    private final long slowQueryNanos;
+    private final int requestBudget;
+    private final int nPlusOneThreshold;
+
+    // 모양 → 통계
+    private final Map<String, ShapeStats> shapes = new ConcurrentHashMap<>();
+
+    // 원본 SQL → 모양 (Hibernate SQL 종류는 한정적이므로 정규식을 매번 돌리지 않음)
+    private final Map<String, String> shapeCache = new ConcurrentHashMap<>();
+
+    // "엔드포인트\n모양" → N+1 의심 기록
+    private final Map<String, NPlusOne> nPlusOnes = new ConcurrentHashMap<>();
+
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder requestsOverBudget = new LongAdder();
+
+    // 스레드별 상태 (실행 대기 중인 쿼리, 진행 중인 요청)
+    private final ThreadLocal<ThreadState> threadState = ThreadLocal.withInitial(ThreadState::new);
+
+    public QueryMetrics(
+            @Value("${query-metrics.max-shapes:500}") int maxShapes,
+            @Value("${query-metrics.slow-query-ms:200}") long slowQueryMillis,
+            @Value("${query-metrics.request-budget:20}") int requestBudget,
+            @Value("${query-metrics.n-plus-one-threshold:5}") int nPlusOneThreshold
+    ) {
+        this.maxShapes = maxShapes;
+        this.slowQueryNanos = slowQueryMillis * 1_000_000L;
+        this.requestBudget = requestBudget;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        current = this;
+    }
+
+    static QueryMetrics current() {
+        return current;
+    }
+
+    // ===== 쿼리 수집 (Hibernate 콜백) =====
+
+    /**
+     * SQL 준비 시점 (StatementInspector)
+     */
+    void onStatement(String sql) {
+        String shape = shapeOf(sql);
+        ShapeStats stats = statsOf(shape);
+        stats.statements.increment();
+        statements.increment();
+
+        ThreadState state = threadState.get();
+        state.pending = stats;
+        if (state.request != null) {
+            state.request.record(stats.shape);
+        }
+    }
+
+    /**
+     * JDBC 실행 시작
+     */
+    void onExecuteStart() {
+        threadState.get().startNanos = System.nanoTime();
+    }
+
+    /**
+     * JDBC 실행 종료 → 직전에 준비된 쿼리 모양에 시간 기록
+     */
+    void onExecuteEnd() {
+        ThreadState state = threadState.get();
+        ShapeStats stats = state.pending;
+        if (stats == null || state.startNanos == 0) {
+            return;
+        }
+        long elapsed = System.nanoTime() - state.startNanos;
+        state.startNanos = 0;
+        stats.record(elapsed);
+
+        if (elapsed >= slowQueryNanos) {
+            log.warn("느린 쿼리 {}ms: {}", elapsed / 1_000_000, stats.shape);
+        }
+    }
+
+    // ===== 요청 단위 집계 (QueryBudgetFilter) =====
+
+    void beginRequest() {
+        threadState.get().request = new RequestQueries();
+    }
+
+    /**
+     * 요청 종료: 예산 초과, N+1 의심 판정
+     *
+     * @param endpoint "GET /trips/{id}" 형태
+     */
+    void endRequest(String endpoint) {
+        ThreadState state = threadState.get();
+        RequestQueries queries = state.request;
+        threadState.remove();
+        if (queries == null) {
+            return;
+        }
+        requests.increment();
+
+        // 1. 요청당 쿼리 수 예산
+        if (queries.total > requestBudget) {
+            requestsOverBudget.increment();
+            log.warn("쿼리 예산 초과: {} → {}회 (예산 {}회)", endpoint, queries.total, requestBudget);
+        }
+
+        // 2. 같은 모양 반복 = N+1 의심
+        queries.counts.forEach((shape, count) -> {
+            if (count < nPlusOneThreshold) {
+                return;
+            }
+            String key = endpoint + "\n" + shape;
+            if (nPlusOnes.size() >= maxShapes && !nPlusOnes.containsKey(key)) {
+                return;
+            }
+            nPlusOnes.computeIfAbsent(key, k -> new NPlusOne(endpoint, shape)).record(count);
+            log.warn("N+1 의심: {} 같은 쿼리 {}회 반복: {}", endpoint, count, shape);
+        });
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 현재까지의 메트릭
+     *
+     * @param limit 모양 최대 개수 (총 실행 시간 순)
+     * @return 메트릭 응답
+     */
+    public QueryMetricsResponse snapshot(int limit) {
+        List<QueryMetricsResponse.QueryStat> queries = shapes.values().stream()
+                .sorted(Comparator.comparingLong((ShapeStats s) -> s.totalNanos.sum()).reversed()
+                        .thenComparing(s -> s.statements.sum(), Comparator.reverseOrder()))
+                .limit(limit)
+                .map(ShapeStats::toResponse)
+                .toList();
+
+        List<QueryMetricsResponse.NPlusOneSuspect> suspects = nPlusOnes.values().stream()
+                .sorted(Comparator.comparingLong((NPlusOne n) -> n.occurrences.sum()).reversed())
+                .limit(limit)
+                .map(NPlusOne::toResponse)
+                .toList();
+
+        return QueryMetricsResponse.builder()
+                .statements(statements.sum())
+                .distinctShapes(shapes.size())
+                .requests(requests.sum())
+                .requestsOverBudget(requestsOverBudget.sum())
+                .requestBudget(requestBudget)
+                .queries(queries)
+                .suspectedNPlusOne(suspects)
+                .build();
+    }
+
+    /**
+     * 전체 초기화
+     */
+    public void reset() {
+        shapes.clear();
+        nPlusOnes.clear();
+        statements.reset();
+        requests.reset();
+        requestsOverBudget.reset();
+    }
+
+    private String shapeOf(String sql) {
+        String shape = shapeCache.get(sql);
+        if (shape == null) {
+            shape = SqlShape.of(sql);
+            // IN 목록 길이마다 원본 SQL이 달라지므로 캐시 크기 제한
+            if (shapeCache.size() < maxShapes * 4) {
+                shapeCache.put(sql, shape);
+            }
+        }
+        return shape;
+    }
+
+    private ShapeStats statsOf(String shape) {
+        ShapeStats stats = shapes.get(shape);
+        if (stats != null) {
+            return stats;
+        }
+        if (shapes.size() >= maxShapes) {
+            return shapes.computeIfAbsent(OTHER_SHAPE, ShapeStats::new);
+        }
+        return shapes.computeIfAbsent(shape, ShapeStats::new);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * 스레드별 상태
+     */
+    private static final class ThreadState {
+        ShapeStats pending;
+        long startNanos;
+        RequestQueries request;
+    }
+
+    /**
+     * 요청 하나에서 실행된 쿼리 (요청 스레드에서만 접근)
+     */
+    private static final class RequestQueries {
+        final Map<String, Integer> counts = new HashMap<>();
+        int total;
+
+        void record(String shape) {
+            counts.merge(shape, 1, Integer::sum);
+            total++;
+        }
+    }
+
+    /**
+     * 쿼리 모양 하나의 통계
+     */
+    private static final class ShapeStats {
+        final String shape;
+        final LongAdder statements = new LongAdder();
+        final LongAdder executions = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        final LongAdder[] buckets = new LongAdder[BUCKET_UPPER_MS.length + 1];
+
+        ShapeStats(String shape) {
+            this.shape = shape;
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        void record(long nanos) {
+            executions.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            buckets[bucketOf(nanos)].increment();
+        }
+
+        static int bucketOf(long nanos) {
+            long millis = nanos / 1_000_000;
+            for (int i = 0; i < BUCKET_UPPER_MS.length; i++) {
+                if (millis < BUCKET_UPPER_MS[i]) {
+                    return i;
+                }
+            }
+            return BUCKET_UPPER_MS.length;
+        }
+
+        /**
+         * 히스토그램으로 구한 근사 백분위 (해당 구간의 상한값)
+         */
+        double percentileMs(long[] counts, long total, double p) {
+            if (total == 0) {
+                return 0;
+            }
+            long target = (long) Math.ceil(total * p);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= target) {
+                    return i < BUCKET_UPPER_MS.length
+                            ? Math.min(BUCKET_UPPER_MS[i], toMillis(maxNanos.get()))
+                            : toMillis(maxNanos.get());
+                }
+            }
+            return toMillis(maxNanos.get());
+        }
+
+        QueryMetricsResponse.QueryStat toResponse() {
+            long[] counts = new long[buckets.length];
+            Map<String, Long> histogram = new LinkedHashMap<>();
+            long total = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                counts[i] = buckets[i].sum();
+                total += counts[i];
+                String label = i < BUCKET_UPPER_MS.length
+                        ? "<" + BUCKET_UPPER_MS[i] + "ms"
+                        : ">=" + BUCKET_UPPER_MS[BUCKET_UPPER_MS.length - 1] + "ms";
+                histogram.put(label, counts[i]);
+            }
+            long totalTime = totalNanos.sum();
+
+            return QueryMetricsResponse.QueryStat.builder()
+                    .shape(shape)
+                    .statements(statements.sum())
+                    .executions(total)
+                    .totalMs(toMillis(totalTime))
+                    .avgMs(total == 0 ? 0 : toMillis(totalTime) / total)
+                    .maxMs(toMillis(maxNanos.get()))
+                    .p50Ms(percentileMs(counts, total, 0.50))
+                    .p99Ms(percentileMs(counts, total, 0.99))
+                    .histogram(histogram)
+                    .build();
+        }
+    }
+
+    /**
+     * 엔드포인트별 N+1 의심 기록
+     */
+    private static final class NPlusOne {
+        final String endpoint;
+        final String shape;
+        final LongAdder occurrences = new LongAdder();
+        final LongAccumulator maxRepeat = new LongAccumulator(Math::max, 0);
+
+        NPlusOne(String endpoint, String shape) {
+            this.endpoint = endpoint;
+            this.shape = shape;
+        }
+
+        void record(int repeat) {
+            occurrences.increment();
+            maxRepeat.accumulate(repeat);
+        }
+
+        QueryMetricsResponse.NPlusOneSuspect toResponse() {
+            return QueryMetricsResponse.NPlusOneSuspect.builder()
+                    .endpoint(endpoint)
+                    .shape(shape)
+                    .occurrences(occurrences.sum())
+                    .maxRepeat(maxRepeat.get())
+                    .build();
+        }
+    }
+}
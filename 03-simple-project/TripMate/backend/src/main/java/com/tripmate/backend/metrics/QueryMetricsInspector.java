@@ -0,0 +1,21 @@
+package com.tripmate.backend.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 SQL을 준비할 때마다 호출 → 쿼리 모양 집계
+ *
+ * SQL은 바꾸지 않고 그대로 돌려줌
+ */
+@RequiredArgsConstructor
+public class QueryMetricsInspector implements StatementInspector {
+
+    private final QueryMetrics queryMetrics;
+
+    @Override
+    public String inspect(String sql) {
+        queryMetrics.onStatement(sql);
+        return sql;
+    }
+}
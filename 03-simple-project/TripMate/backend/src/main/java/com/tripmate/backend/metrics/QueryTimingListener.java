@@ -0,0 +1,38 @@
+package com.tripmate.backend.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * JDBC 실행 시간 측정
+ *
+ * hibernate.session.events.auto로 등록 → Hibernate가 세션마다 기본 생성자로 만듦
+ * (그래서 빈 주입 대신 QueryMetrics.current() 사용)
+ */
+public class QueryTimingListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        QueryMetrics metrics = QueryMetrics.current();
+        if (metrics != null) {
+            metrics.onExecuteStart();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        QueryMetrics metrics = QueryMetrics.current();
+        if (metrics != null) {
+            metrics.onExecuteEnd();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        jdbcExecuteStatementStart();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcExecuteStatementEnd();
+    }
+}
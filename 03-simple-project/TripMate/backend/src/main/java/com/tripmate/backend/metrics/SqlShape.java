@@ -0,0 +1,36 @@
+package com.tripmate.backend.metrics;
+
+import java.util.regex.Pattern;
+
+/**
+ * SQL 모양(shape) 정규화
+ *
+ * 값만 다르고 구조가 같은 쿼리를 하나로 묶기 위해 리터럴과 IN 목록을 지웁니다.
+ * 예) select ... where t1_0.id in (?, ?, ?) limit 20
+ *   → select ... where t1_0.id in (?...) limit ?
+ *
+ * Hibernate가 만드는 SQL은 바인딩 값이 이미 ?이므로 주로 주석, LIMIT 숫자, IN 목록 길이가 대상
+ */
+final class SqlShape {
+
+    // 모양 문자열 최대 길이 (메모리 보호)
+    static final int MAX_LENGTH = 1000;
+
+    private static final Pattern COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlShape() {
+    }
+
+    static String of(String sql) {
+        String s = COMMENT.matcher(sql).replaceAll(" ");
+        s = STRING_LITERAL.matcher(s).replaceAll("?");
+        s = NUMBER_LITERAL.matcher(s).replaceAll("?");
+        s = IN_LIST.matcher(s).replaceAll("(?...)");
+        s = WHITESPACE.matcher(s).replaceAll(" ").trim();
+        return s.length() > MAX_LENGTH ? s.substring(0, MAX_LENGTH) : s;
+    }
+}
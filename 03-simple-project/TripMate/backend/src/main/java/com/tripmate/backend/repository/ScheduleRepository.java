@@ -0,0 +1,116 @@
+package com.tripmate.backend.repository;
+
+import com.tripmate.backend.entity.Schedule;
+import com.tripmate.backend.geo.ScheduleLocation;
+import com.tripmate.backend.geo.TripAccess;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ScheduleRepository - 일정 데이터 접근
+ */
+@Repository
+public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
+
+    /**
+     * 여행의 전체 일정 (날짜 → 순서)
+     * 한 번의 쿼리로 전체 일정표 조회 (trip_id, date, order_index 인덱스 사용)
+     *
+     * @param tripId 여행 ID
+     * @return 일정 목록
+     */
+    List<Schedule> findByTripIdOrderByDateAscOrderIndexAsc(Long tripId);
+
+    /**
+     * 여행의 특정 날짜 일정
+     * 순서 변경 시 대상 일정 조회용
+     *
+     * @param tripId 여행 ID
+     * @param date 날짜
+     * @return 일정 목록 (순서대로)
+     */
+    List<Schedule> findByTripIdAndDateOrderByOrderIndexAsc(Long tripId, LocalDate date);
+
+    /**
+     * 여행의 특정 날짜 일정 (행 잠금)
+     * 확인 후 저장하는 사이에 다른 요청이 순서를 바꾸지 못하도록 SELECT ... FOR UPDATE
+     * 일정 추가, 날짜 이동, 순서 변경, 동선 최적화가 모두 이 잠금을 먼저 잡음
+     *
+     * @param tripId 여행 ID
+     * @param date 날짜
+     * @return 일정 목록 (순서대로)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Schedule s WHERE s.trip.id = :tripId AND s.date = :date ORDER BY s.orderIndex")
+    List<Schedule> findForUpdate(@Param("tripId") Long tripId, @Param("date") LocalDate date);
+
+    /**
+     * 여행에 속한 일정 조회
+     * 다른 여행의 일정 ID로 접근하는 것 방지
+     *
+     * @param id 일정 ID
+     * @param tripId 여행 ID
+     * @return Optional<Schedule>
+     */
+    Optional<Schedule> findByIdAndTripId(Long id, Long tripId);
+
+    /**
+     * 좌표가 있는 모든 일정 위치 (공간 색인 초기 로딩용)
+     *
+     * @return 일정 위치 목록
+     */
+    @Query("SELECT new com.tripmate.backend.geo.ScheduleLocation(s.id, s.trip.id, s.title, s.location, s.latitude, s.longitude) "
+            + "FROM Schedule s WHERE s.latitude IS NOT NULL AND s.longitude IS NOT NULL")
+    List<ScheduleLocation> findAllLocations();
+
+    /**
+     * 좌표가 있는 일정이 속한 여행들의 접근 정보 (공간 색인 초기 로딩용)
+     *
+     * @return 여행 접근 정보 목록
+     */
+    @Query("SELECT new com.tripmate.backend.geo.TripAccess(t.id, t.owner.id, t.isPublic) FROM Trip t "
+            + "WHERE t.id IN (SELECT s.trip.id FROM Schedule s WHERE s.latitude IS NOT NULL AND s.longitude IS NOT NULL)")
+    List<TripAccess> findAccessOfLocatedTrips();
+
+    /**
+     * 여행 하나의 접근 정보
+     *
+     * @param tripId 여행 ID
+     * @return Optional<TripAccess>
+     */
+    @Query("SELECT new com.tripmate.backend.geo.TripAccess(t.id, t.owner.id, t.isPublic) FROM Trip t WHERE t.id = :tripId")
+    Optional<TripAccess> findTripAccess(@Param("tripId") Long tripId);
+
+    /**
+     * 여행의 일정 전체 삭제 (여행 삭제 시)
+     * 일정을 하나씩 조회/삭제하지 않고 DELETE 한 번
+     *
+     * @param tripId 여행 ID
+     * @return 삭제된 일정 수
+     */
+    @Modifying
+    @Query("DELETE FROM Schedule s WHERE s.trip.id = :tripId")
+    int deleteAllByTripId(@Param("tripId") Long tripId);
+}
+
+/*
+ * ===== trip.id 조건 =====
+ *
+ * findByTripId(...) → WHERE s.trip_id = ?
+ * - trip의 ID는 schedule 테이블의 FK 컬럼이라 trips 테이블 JOIN 없음
+ *
+ * ===== 순서 변경 쿼리 =====
+ *
+ * 순서 변경은 Repository에 UPDATE 쿼리를 따로 만들지 않음
+ * - 날짜의 일정을 조회 → updateOrder()로 값만 변경 → 커밋 시 Dirty Checking
+ * - 바뀐 행의 UPDATE 문은 모양이 같아서 hibernate.jdbc.batch_size로 한 번에 전송
+ */
@@ -1,12 +1,17 @@
 package com.tripmate.backend.repository;
 
+import com.tripmate.backend.analytics.TripFacts;
+import com.tripmate.backend.dto.response.TripResponse;
 import com.tripmate.backend.entity.Trip;
 import com.tripmate.backend.entity.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +21,21 @@ import java.util.Optional;
 @Repository
 public interface TripRepository extends JpaRepository<Trip, Long> {
 
+    /**
+     * 목록 조회용 DTO projection
+     * 엔티티 대신 TripResponse 생성자에 필요한 컬럼만 조회 (owner는 이름/이메일만 JOIN)
+     * 생성자 인자 순서는 TripResponse 필드 순서와 같아야 함
+     */
+    String TRIP_RESPONSE_SELECT = "SELECT new com.tripmate.backend.dto.response.TripResponse("
+            + "t.id, t.title, t.destination, t.startDate, t.endDate, t.coverImage, t.description, "
+            + "t.budget, t.isPublic, o.id, o.name, o.email, t.createdAt, t.updatedAt) "
+            + "FROM Trip t JOIN t.owner o ";
+
+    // (createdAt, id) 기준 커서 이후 조건
+    String AFTER_CURSOR = "(t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) ";
+
+    String LATEST_FIRST = "ORDER BY t.createdAt DESC, t.id DESC";
+
     /**
      * 특정 사용자의 모든 여행 조회
      *
@@ -41,14 +61,6 @@ public interface TripRepository extends JpaRepository<Trip, Long> {
      */
     List<Trip> findByIsPublicTrueOrderByCreatedAtDesc();
 
-    /**
-     * 여행지로 검색 (공개된 여행만)
-     *
-     * @param destination 여행지 (부분 일치)
-     * @return 여행 목록
-     */
-    List<Trip> findByDestinationContainingAndIsPublicTrue(String destination);
-
     /**
      * 사용자의 여행 개수
      *
@@ -67,6 +79,31 @@ public interface TripRepository extends JpaRepository<Trip, Long> {
     @Query("SELECT t FROM Trip t JOIN FETCH t.owner WHERE t.id = :id")
     Optional<Trip> findByIdWithOwner(@Param("id") Long id);
 
+    /**
+     * id 다음부터 여행 통계 정보만 순서대로 조회 (통계 초기 로딩용)
+     *
+     * owner는 FK 값만 사용하므로 users 조인 없음
+     *
+     * @param afterId 마지막으로 읽은 여행 ID
+     * @param pageable 한 번에 읽을 개수
+     * @return 여행 통계 정보 목록
+     */
+    @Query("SELECT new com.tripmate.backend.analytics.TripFacts("
+            + "t.id, t.owner.id, t.destination, t.startDate, t.endDate, t.budget, t.isPublic) "
+            + "FROM Trip t WHERE t.id > :afterId ORDER BY t.id")
+    List<TripFacts> findTripFactsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 여행 상세 (owner + 전체 일정) 한 번의 쿼리로 조회
+     * trips ⋈ users ⟕ schedules (일정은 날짜 → 순서)
+     *
+     * @param id 여행 ID
+     * @return Optional<Trip>
+     */
+    @EntityGraph(attributePaths = {"owner", "schedules"})
+    @Query("SELECT t FROM Trip t WHERE t.id = :id")
+    Optional<Trip> findDetailById(@Param("id") Long id);
+
     /**
      * 사용자의 여행을 owner와 함께 조회
      *
@@ -75,6 +112,83 @@ public interface TripRepository extends JpaRepository<Trip, Long> {
      */
     @Query("SELECT t FROM Trip t JOIN FETCH t.owner WHERE t.owner = :owner ORDER BY t.createdAt DESC")
     List<Trip> findByOwnerWithOwner(@Param("owner") User owner);
+
+    /**
+     * 내 여행인지 확인 (엔티티 로딩 없이)
+     *
+     * @param id 여행 ID
+     * @param ownerId 사용자 ID
+     * @return 내 여행이면 true
+     */
+    boolean existsByIdAndOwnerId(Long id, Long ownerId);
+
+    /**
+     * 조회 가능한 여행인지 확인 (내 여행이거나 공개 여행)
+     *
+     * @param id 여행 ID
+     * @param userId 사용자 ID
+     * @return 조회 가능하면 true
+     */
+    @Query("SELECT COUNT(t) > 0 FROM Trip t WHERE t.id = :id AND (t.owner.id = :userId OR t.isPublic = true)")
+    boolean isVisibleTo(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * 내 여행 목록 첫 페이지 (DTO projection)
+     *
+     * @param ownerId 사용자 ID
+     * @param pageable 조회 개수 (PageRequest.of(0, size + 1))
+     * @return 여행 목록 (최신순)
+     */
+    @Query(TRIP_RESPONSE_SELECT + "WHERE o.id = :ownerId " + LATEST_FIRST)
+    List<TripResponse> findMyTripPage(@Param("ownerId") Long ownerId, Pageable pageable);
+
+    /**
+     * 내 여행 목록 다음 페이지 (커서 이후)
+     *
+     * @param ownerId 사용자 ID
+     * @param createdAt 커서의 생성 시간
+     * @param id 커서의 여행 ID
+     * @param pageable 조회 개수
+     * @return 여행 목록 (최신순)
+     */
+    @Query(TRIP_RESPONSE_SELECT + "WHERE o.id = :ownerId AND " + AFTER_CURSOR + LATEST_FIRST)
+    List<TripResponse> findMyTripPageAfter(@Param("ownerId") Long ownerId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+
+    /**
+     * 공개 여행 첫 페이지 (DTO projection)
+     *
+     * @param pageable 조회 개수
+     * @return 공개 여행 목록 (최신순)
+     */
+    @Query(TRIP_RESPONSE_SELECT + "WHERE t.isPublic = true " + LATEST_FIRST)
+    List<TripResponse> findPublicTripPage(Pageable pageable);
+
+    /**
+     * 공개 여행 다음 페이지 (커서 이후)
+     *
+     * @param createdAt 커서의 생성 시간
+     * @param id 커서의 여행 ID
+     * @param pageable 조회 개수
+     * @return 공개 여행 목록 (최신순)
+     */
+    @Query(TRIP_RESPONSE_SELECT + "WHERE t.isPublic = true AND " + AFTER_CURSOR + LATEST_FIRST)
+    List<TripResponse> findPublicTripPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
+
+    /**
+     * 사용자 ID로 권한 체크 + owner 함께 조회
+     * 한 번의 쿼리로 조회 + 권한 체크 + 응답에 필요한 owner 정보까지
+     *
+     * @param id 여행 ID
+     * @param ownerId 소유자 ID
+     * @return Optional<Trip>
+     */
+    @Query("SELECT t FROM Trip t JOIN FETCH t.owner o WHERE t.id = :id AND o.id = :ownerId")
+    Optional<Trip> findByIdAndOwnerIdWithOwner(@Param("id") Long id, @Param("ownerId") Long ownerId);
 }
 
 /*
@@ -91,6 +205,7 @@ public interface TripRepository extends JpaRepository<Trip, Long> {
  *
  * findByDestinationContainingAndIsPublicTrue()
  * → SELECT * FROM trips WHERE destination LIKE %?% AND is_public = true
+ *   (앞에 %가 붙으면 인덱스를 못 타고 풀스캔 → 여행 검색은 TripSearchService 사용)
  *
  * countByOwner()
  * → SELECT COUNT(*) FROM trips WHERE owner = ?
@@ -153,6 +268,24 @@ public interface TripRepository extends JpaRepository<Trip, Long> {
  * Trip trip = tripRepository.findByIdAndOwner(id, user)
  *     .orElseThrow(() -> new RuntimeException("권한이 없습니다"));
  *
- * // 공개 여행 검색
- * List<Trip> trips = tripRepository.findByDestinationContainingAndIsPublicTrue("제주");
+ * // 권한 체크 (User 엔티티 없이 로그인 사용자 ID만으로)
+ * Trip trip = tripRepository.findByIdAndOwnerIdWithOwner(id, userId)
+ *     .orElseThrow(() -> new RuntimeException("권한이 없습니다"));
+ *
+ * // 목록 API (커서 페이지네이션 + DTO projection)
+ * List<TripResponse> page = tripRepository.findPublicTripPageAfter(createdAt, id, PageRequest.of(0, size + 1));
+ *
+ * ===== Keyset(커서) 페이지네이션 =====
+ *
+ * OFFSET 방식: LIMIT 20 OFFSET 100000
+ * → 앞의 100000개를 읽고 버림, 뒤로 갈수록 느려짐
+ *
+ * Keyset 방식: WHERE (created_at, id) < (마지막 값) ORDER BY created_at DESC, id DESC LIMIT 21
+ * → 인덱스에서 커서 위치부터 바로 읽음, 몇 번째 페이지든 비용이 같음
+ * → trips 테이블의 (is_public, created_at, id), (user_id, created_at, id) 인덱스 사용
+ *
+ * size + 1개를 조회하는 이유: COUNT 쿼리 없이 다음 페이지 존재 여부 확인
+ *
+ * // 공개 여행 검색 (DB LIKE 대신 메모리 n-gram 색인)
+ * TripSearchResponse result = tripSearchService.search("제주", 0, 20);
  */
\ No newline at end of file
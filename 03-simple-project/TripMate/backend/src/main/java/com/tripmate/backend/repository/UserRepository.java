@@ -1,9 +1,16 @@
 package com.tripmate.backend.repository;
 
 import com.tripmate.backend.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 
@@ -66,6 +73,63 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     Optional<User> findByEmailAndIsActive(String email, Boolean isAcrive);
 
+    /**
+     * id 다음부터 이메일만 순서대로 조회 (가입 이메일 필터 초기 로딩용)
+     *
+     * 인터페이스 프로젝션 → SELECT id, email FROM users WHERE id > ? ORDER BY id LIMIT ?
+     * (엔티티 전체를 읽지 않음)
+     *
+     * @param id 마지막으로 읽은 사용자 ID
+     * @param pageable 한 번에 읽을 개수
+     * @return id, email 목록
+     */
+    List<EmailRow> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * id + email 프로젝션
+     */
+    interface EmailRow {
+        Long getId();
+
+        String getEmail();
+    }
+
+    /**
+     * 최근 비활성화된 사용자 조회 (토큰 무효화 목록 복원용)
+     *
+     * → SELECT id, update_at FROM users WHERE is_active = false AND update_at > ?
+     *
+     * @param since 이 시각 이후에 변경된 사용자만 (토큰 유효기간)
+     * @return id, 수정 시각 목록
+     */
+    List<DeactivatedRow> findByIsActiveFalseAndUpdateAtAfter(LocalDateTime since);
+
+    /**
+     * id + 수정 시각 프로젝션
+     */
+    interface DeactivatedRow {
+        Long getId();
+
+        LocalDateTime getUpdateAt();
+    }
+
+    /**
+     * 비밀번호 해시 교체 (로그인 시 재해싱용)
+     *
+     * 해시가 그 사이 바뀌지 않았을 때만 교체 (동시에 비밀번호를 변경한 경우 덮어쓰지 않음)
+     *
+     * @param id 사용자 ID
+     * @param oldHash 검증에 사용한 기존 해시
+     * @param newHash 새 해시
+     * @return 변경된 행 수 (0이면 이미 바뀜)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.id = :id AND u.password = :oldHash")
+    int updatePasswordIfUnchanged(@Param("id") Long id,
+                                  @Param("oldHash") String oldHash,
+                                  @Param("newHash") String newHash);
+
     // ======== 추가로 필요할 수 있는 메서드들 ========
 
     /**
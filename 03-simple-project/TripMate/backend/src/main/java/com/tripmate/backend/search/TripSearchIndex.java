@@ -0,0 +1,366 @@
+package com.tripmate.backend.search;
+
+import com.tripmate.backend.dto.response.TripResponse;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 공개 여행 검색 색인 (메모리)
+ *
+ * 1. n-gram 역색인: 여행지/제목을 1-gram, 2-gram으로 잘라 gram → 여행 ID 목록 저장
+ *    → LIKE '%제주%' 대신 "제주" gram의 목록만 읽음
+ * 2. 여행지 prefix 색인: 정렬된 TreeMap에서 prefix 범위만 잘라서 자동완성
+ *
+ * 검색 결과를 바로 응답할 수 있도록 TripResponse도 함께 보관합니다.
+ * 읽기(검색)는 동시에, 쓰기(추가/삭제)는 하나씩 (ReadWriteLock)
+ *
+ * 초기 로딩은 서버가 요청을 받기 시작한 뒤에 진행되므로,
+ * 로딩 중 put/remove로 먼저 반영된 여행은 스캔 결과로 덮어쓰지 않습니다.
+ * (비공개로 바뀐 여행이 예전 스캔 결과로 다시 색인되지 않도록)
+ */
+public class TripSearchIndex {
+
+    // 필드 가중치 (여행지 일치가 제목 일치보다 중요)
+    private static final int DESTINATION_WEIGHT = 2;
+    private static final int TITLE_WEIGHT = 1;
+
+    // 정렬: 점수 높은 순 → 최신순
+    private static final Comparator<Map.Entry<TripResponse, Double>> RANKING =
+            Map.Entry.<TripResponse, Double>comparingByValue().reversed()
+                    .thenComparing(e -> e.getKey().getCreatedAt(), Comparator.reverseOrder())
+                    .thenComparing(e -> e.getKey().getId(), Comparator.reverseOrder());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // tripId → 여행 정보
+    private final Map<Long, TripResponse> trips = new HashMap<>();
+
+    // gram → tripId 목록
+    private final Map<String, Set<Long>> destinationGrams = new HashMap<>();
+    private final Map<String, Set<Long>> titleGrams = new HashMap<>();
+
+    // 정규화된 여행지(단어 시작 위치 포함) → (표시용 여행지 → 여행 수)
+    private final NavigableMap<String, Map<String, Integer>> destinationPrefixes = new TreeMap<>();
+
+    // 초기 로딩 중 put/remove로 반영된 여행 ID (로딩 중이 아니면 null)
+    private Set<Long> changedDuringLoad;
+
+    /**
+     * 검색 결과
+     *
+     * @param trips 현재 페이지 여행 목록
+     * @param total 전체 검색 결과 수
+     */
+    public record Result(List<TripResponse> trips, int total) {
+    }
+
+    /**
+     * 여행 추가/교체
+     *
+     * 비공개 여행이면 색인에서 제거합니다.
+     *
+     * @param trip 여행 정보
+     */
+    public void put(TripResponse trip) {
+        lock.writeLock().lock();
+        try {
+            markChanged(trip.getId());
+            removeInternal(trip.getId());
+            putInternal(trip);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 여행 제거
+     *
+     * @param tripId 여행 ID
+     */
+    public void remove(Long tripId) {
+        lock.writeLock().lock();
+        try {
+            markChanged(tripId);
+            removeInternal(tripId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 초기 로딩 시작 - 이후 put/remove된 여행은 loadBatch에서 건너뜀
+     */
+    public void beginLoad() {
+        lock.writeLock().lock();
+        try {
+            changedDuringLoad = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 초기 로딩 스캔 결과 반영
+     *
+     * 이미 색인된 여행과 로딩 중 변경/삭제된 여행은 건너뜀 (더 최신 상태가 이미 반영됨)
+     *
+     * @param batch 스캔한 공개 여행
+     */
+    public void loadBatch(Collection<TripResponse> batch) {
+        lock.writeLock().lock();
+        try {
+            for (TripResponse trip : batch) {
+                if (!trips.containsKey(trip.getId())
+                        && (changedDuringLoad == null || !changedDuringLoad.contains(trip.getId()))) {
+                    putInternal(trip);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 초기 로딩 종료
+     */
+    public void endLoad() {
+        lock.writeLock().lock();
+        try {
+            changedDuringLoad = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 (여행지 + 제목)
+     *
+     * 검색어 gram 중 몇 개가 일치하는지로 점수를 매기고,
+     * 여행지가 검색어로 시작하면 가산점을 줍니다.
+     *
+     * @param query 검색어
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기
+     * @return 검색 결과
+     */
+    public Result search(String query, int page, int size) {
+        String normalized = normalize(query);
+        List<String> queryGrams = new ArrayList<>(grams(query));
+        if (queryGrams.isEmpty()) {
+            return new Result(List.of(), 0);
+        }
+        // 두 글자 이상이면 2-gram만 사용 (1-gram은 너무 많은 여행과 일치)
+        if (normalized.length() > 1) {
+            queryGrams.removeIf(gram -> gram.length() == 1);
+        }
+
+        lock.readLock().lock();
+        try {
+            // 1. gram별 일치 여행에 점수 누적
+            Map<Long, Double> scores = new HashMap<>();
+            for (String gram : queryGrams) {
+                for (Long id : destinationGrams.getOrDefault(gram, Set.of())) {
+                    scores.merge(id, (double) DESTINATION_WEIGHT, Double::sum);
+                }
+                for (Long id : titleGrams.getOrDefault(gram, Set.of())) {
+                    scores.merge(id, (double) TITLE_WEIGHT, Double::sum);
+                }
+            }
+
+            // 2. 검색어 길이로 정규화 + 여행지 prefix 일치 가산점
+            double maxScore = (double) (DESTINATION_WEIGHT + TITLE_WEIGHT) * queryGrams.size();
+            List<Map.Entry<TripResponse, Double>> ranked = new ArrayList<>(scores.size());
+            for (Map.Entry<Long, Double> e : scores.entrySet()) {
+                TripResponse trip = trips.get(e.getKey());
+                double score = e.getValue() / maxScore;
+                if (normalize(trip.getDestination()).startsWith(normalized)) {
+                    score += 1.0;
+                }
+                ranked.add(Map.entry(trip, score));
+            }
+
+            // 3. 범위 밖 페이지면 정렬 없이 빈 결과 (page * size 는 int 로 넘칠 수 있으므로 long 으로 계산)
+            long offset = (long) page * size;
+            if (offset >= ranked.size()) {
+                return new Result(List.of(), ranked.size());
+            }
+
+            // 4. 정렬 후 페이지 자르기
+            ranked.sort(RANKING);
+            int from = (int) offset;
+            int to = (int) Math.min(offset + size, ranked.size());
+            List<TripResponse> result = ranked.subList(from, to).stream()
+                    .map(Map.Entry::getKey)
+                    .toList();
+            return new Result(result, ranked.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 여행지 자동완성
+     *
+     * 여행지(또는 여행지의 단어)가 prefix로 시작하는 것을 여행 수가 많은 순으로 반환
+     * 예) "je" → ["Jeju Island", "Jeonju"], "isl" → ["Jeju Island"]
+     *
+     * @param prefix 입력 중인 문자열
+     * @param limit 최대 개수
+     * @return 여행지 목록
+     */
+    public List<String> autocomplete(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            // prefix 범위만 잘라서 여행 수 합산
+            Map<String, Integer> counts = new HashMap<>();
+            destinationPrefixes.subMap(key, true, key + Character.MAX_VALUE, true)
+                    .values()
+                    .forEach(m -> m.forEach((display, count) -> counts.merge(display, count, Integer::max)));
+
+            return counts.entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 여행 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return trips.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void markChanged(Long tripId) {
+        if (changedDuringLoad != null) {
+            changedDuringLoad.add(tripId);
+        }
+    }
+
+    private void putInternal(TripResponse trip) {
+        if (!Boolean.TRUE.equals(trip.getIsPublic())) {
+            return;
+        }
+        trips.put(trip.getId(), trip);
+        for (String gram : grams(trip.getDestination())) {
+            destinationGrams.computeIfAbsent(gram, g -> new HashSet<>()).add(trip.getId());
+        }
+        for (String gram : grams(trip.getTitle())) {
+            titleGrams.computeIfAbsent(gram, g -> new HashSet<>()).add(trip.getId());
+        }
+        for (String key : prefixKeys(trip.getDestination())) {
+            destinationPrefixes.computeIfAbsent(key, k -> new HashMap<>())
+                    .merge(trip.getDestination().trim(), 1, Integer::sum);
+        }
+    }
+
+    private void removeInternal(Long tripId) {
+        TripResponse old = trips.remove(tripId);
+        if (old == null) {
+            return;
+        }
+        for (String gram : grams(old.getDestination())) {
+            removePosting(destinationGrams, gram, tripId);
+        }
+        for (String gram : grams(old.getTitle())) {
+            removePosting(titleGrams, gram, tripId);
+        }
+        String display = old.getDestination().trim();
+        for (String key : prefixKeys(old.getDestination())) {
+            Map<String, Integer> displays = destinationPrefixes.get(key);
+            if (displays == null) {
+                continue;
+            }
+            displays.computeIfPresent(display, (d, count) -> count > 1 ? count - 1 : null);
+            if (displays.isEmpty()) {
+                destinationPrefixes.remove(key);
+            }
+        }
+    }
+
+    private static void removePosting(Map<String, Set<Long>> postings, String gram, Long tripId) {
+        Set<Long> ids = postings.get(gram);
+        if (ids != null) {
+            ids.remove(tripId);
+            if (ids.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * 1-gram + 2-gram (공백 제거, 소문자)
+     * 예) "제주 도" → [제, 주, 도, 제주, 주도]
+     */
+    static Set<String> grams(String text) {
+        String s = normalize(text).replace(" ", "");
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < s.length(); i++) {
+            grams.add(s.substring(i, i + 1));
+            if (i + 2 <= s.length()) {
+                grams.add(s.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 자동완성 키: 여행지 전체 + 각 단어 시작 위치부터의 문자열
+     * 예) "Jeju Island" → ["jeju island", "island"]
+     */
+    private static List<String> prefixKeys(String destination) {
+        String s = normalize(destination);
+        List<String> keys = new ArrayList<>();
+        if (s.isEmpty()) {
+            return keys;
+        }
+        keys.add(s);
+        for (int i = s.indexOf(' '); i >= 0; i = s.indexOf(' ', i + 1)) {
+            if (i + 1 < s.length()) {
+                keys.add(s.substring(i + 1));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * 정규화: 유니코드 NFKC + 소문자 + 연속 공백 하나로
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+}
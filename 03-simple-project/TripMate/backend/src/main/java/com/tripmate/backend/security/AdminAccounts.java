@@ -0,0 +1,46 @@
+package com.tripmate.backend.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 관리자 계정 목록
+ *
+ * 사용자 테이블에 권한 컬럼이 없으므로 설정(auth.admin-emails)에 적힌 이메일만 ROLE_ADMIN을 받습니다.
+ * 권한은 토큰 roles claim에 서명되어 들어가므로, 목록에서 빼도 이미 발급된 토큰은 만료 전까지 관리자 권한 유지
+ */
+@Component
+public class AdminAccounts {
+
+    public static final String ADMIN_ROLE = "ROLE_ADMIN";
+
+    private final Set<String> adminEmails;
+
+    public AdminAccounts(@Value("${auth.admin-emails:}") List<String> adminEmails) {
+        this.adminEmails = adminEmails.stream()
+                .map(AdminAccounts::normalize)
+                .filter(email -> !email.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * 사용자 권한 목록
+     *
+     * @param email 사용자 이메일
+     * @return ROLE_USER (+ 관리자면 ROLE_ADMIN)
+     */
+    public List<String> rolesOf(String email) {
+        return adminEmails.contains(normalize(email))
+                ? List.of(UserPrincipal.DEFAULT_ROLE, ADMIN_ROLE)
+                : List.of(UserPrincipal.DEFAULT_ROLE);
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,27 @@
+package com.tripmate.backend.security;
+
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 현재 로그인한 사용자 주입
+ *
+ * JWT 필터가 SecurityContext에 넣어 둔 UserPrincipal을 컨트롤러 파라미터로 받습니다.
+ * SecurityContext는 요청(스레드) 단위라서 요청마다 해당 사용자가 주입됨
+ *
+ * 사용 예:
+ * public ResponseEntity<?> getMyTrips(@CurrentUser UserPrincipal user) {
+ *     tripService.getMyTrips(user.getId());
+ * }
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@AuthenticationPrincipal
+public @interface CurrentUser {
+}
@@ -4,22 +4,18 @@ import com.tripmate.backend.entity.User;
 import com.tripmate.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.Collection;
-
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final AdminAccounts adminAccounts;
 
     /**
      *이메일 (username)로 사용자 정보 로드
@@ -57,26 +53,15 @@ public class CustomUserDetailsService implements UserDetailsService {
     /**
      * User 엔티티를 Spring Security UserDetails로 변환
      *
+     * JWT claims로 만드는 경로와 같은 UserPrincipal을 사용해서
+     * 서비스 계층에서는 어느 경로로 인증됐는지 신경 쓰지 않아도 됨
+     *
      * @param user User 엔티티
      * @return UserDetails 객체
      */
     private UserDetails createUserDetails(User user){
-        //권한 (Authority)생성
-        // 현재는 단순하게 "ROLE_USER" 하나만 부여
-        // 나중에 관리자 기능 추가 시 "ROLE_ADMIN" 등 추가 가능
-        Collection<GrantedAuthority> authorities = new ArrayList<>();
-        authorities.add(new SimpleGrantedAuthority("ROLE_USER"));
-
-        //Spring Security의 User 객체 생성 (우리의 User 엔티티와는 다른 클래스!)
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getEmail())          // 이메일을 username으로 사용
-                .password(user.getPassword())       // 암호화된 비밀번호
-                .authorities(authorities)           // 권한 목록
-                .accountExpired(false)              // 계정 만료 여부
-                .accountLocked(false)               // 계정 잠김 여부
-                .credentialsExpired(false)          // 비밀번호 만료 여부
-                .disabled(!user.getIsActive())      // 계정 비활성화 여부
-                .build();
+        // ROLE_USER + 설정된 관리자 이메일이면 ROLE_ADMIN (토큰 claims 경로와 같은 규칙)
+        return UserPrincipal.from(user, adminAccounts.rolesOf(user.getEmail()));
     }
 }
 
@@ -115,13 +100,16 @@ public class CustomUserDetailsService implements UserDetailsService {
  *    - DB 테이블과 매핑
  *    - 비즈니스 로직에 사용
  *
- * 2. org.springframework.security.core.userdetails.User
- *    - Spring Security가 제공하는 클래스
+ * 2. com.tripmate.backend.security.UserPrincipal
+ *    - UserDetails 인터페이스 구현체 (Spring Security 기본 User 대신 사용)
  *    - 인증/인가에만 사용
- *    - UserDetails 인터페이스 구현체
+ *    - 사용자 id를 함께 들고 있어서 서비스에서 재조회 불필요
  *
  * 변환 과정:
- * DB User 엔티티 → UserDetails 객체 → Spring Security 인증
+ * DB User 엔티티 → UserPrincipal → Spring Security 인증
+ *
+ * 참고: 지금은 대부분 JWT claims로 UserPrincipal을 바로 만들기 때문에
+ * 이 서비스는 uid가 없는 예전 토큰이나 stateless 모드를 끈 경우에만 호출됨
  *
  * ===== 트랜잭션 어노테이션 =====
  *
@@ -0,0 +1,150 @@
+package com.tripmate.backend.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 가입된 이메일 Bloom filter (메모리)
+ *
+ * "이 이메일이 가입되어 있는가?"에 대해
+ * - false: 확실히 없음 → DB 조회 없이 바로 사용 가능
+ * - true: 있을 수도 있음 → DB로 확인
+ *
+ * 비트 배열 하나에 이메일마다 k개의 비트를 켜 두고, k개가 모두 켜져 있을 때만 true
+ * 사용자 100만 명, 오탐률 1% 기준 약 1.2MB (이메일 문자열을 그대로 들고 있는 것보다 훨씬 작음)
+ *
+ * 삭제는 지원하지 않음 (지워진 이메일은 계속 true → DB 조회 한 번 더 할 뿐 결과는 정확)
+ * 비트 설정은 CAS로 처리하므로 잠금 없이 동시에 추가/조회 가능
+ */
+public class EmailBloomFilter {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final long expectedInsertions;
+    private final AtomicLong insertions = new AtomicLong();
+
+    /**
+     * @param expectedInsertions 예상 이메일 수
+     * @param falsePositiveRate 목표 오탐률 (예: 0.01)
+     */
+    public EmailBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("잘못된 Bloom filter 설정입니다");
+        }
+        // m = -n ln(p) / (ln 2)^2, k = (m / n) ln 2
+        long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((m + 63) / 64));
+        this.bitCount = (long) bits.length() * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    /**
+     * 이메일 추가
+     *
+     * @param email 이메일 (정규화 전)
+     */
+    public void put(String email) {
+        long h1 = hash(normalize(email));
+        long h2 = mix(h1 + GOLDEN_GAMMA) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            setBit(Math.floorMod(h1 + i * h2, bitCount));
+        }
+        insertions.incrementAndGet();
+    }
+
+    /**
+     * 가입되어 있을 수도 있는 이메일인지 확인
+     *
+     * @param email 이메일 (정규화 전)
+     * @return false면 확실히 없음, true면 DB 확인 필요
+     */
+    public boolean mightContain(String email) {
+        long h1 = hash(normalize(email));
+        long h2 = mix(h1 + GOLDEN_GAMMA) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            if (!getBit(Math.floorMod(h1 + i * h2, bitCount))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 추가된 이메일 수 (중복 포함)
+     */
+    public long insertions() {
+        return insertions.get();
+    }
+
+    /**
+     * 예상 개수를 넘어 오탐률이 목표보다 높아졌는지
+     */
+    public boolean isSaturated() {
+        return insertions.get() > expectedInsertions;
+    }
+
+    /**
+     * 메모리 사용량 (bytes)
+     */
+    public long sizeInBytes() {
+        return bitCount / 8;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    private boolean getBit(long index) {
+        return (bits.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    /**
+     * 정규화: 앞뒤 공백 제거 + 소문자
+     *
+     * DB(대소문자 무시 collation)에서 같은 이메일이면 여기서도 반드시 같은 값이 되어야 함
+     * (다르게 보면 "확실히 없음"이 틀릴 수 있음)
+     */
+    static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 64비트 해시 (FNV-1a + 비트 섞기)
+     */
+    private static long hash(String value) {
+        long h = FNV_OFFSET;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= FNV_PRIME;
+        }
+        return mix(h);
+    }
+
+    /**
+     * 64비트 finalizer (MurmurHash3 fmix64)
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -100,8 +100,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
  * 2. JwtAuthenticationFilter 실행
  *    - Authorization 헤더에서 토큰 추출
  *    - 토큰 검증 (서명, 만료 시간)
- *    - 토큰에서 이메일 추출
- *    - UserDetailsService로 사용자 정보 로드
+ *    - 토큰 claims(uid, roles, active)로 사용자 정보 생성 (DB 조회 없음)
  *    - Authentication 객체 생성
  *    - SecurityContext에 저장
  *
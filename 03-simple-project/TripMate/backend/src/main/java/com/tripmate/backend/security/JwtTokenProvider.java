@@ -1,26 +1,43 @@
 package com.tripmate.backend.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.tripmate.backend.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j // 로그 사용
 @Component // Spring Bean으로 등록
 @RequiredArgsConstructor // final 필드 생성자 자동 생성
 public class JwtTokenProvider {
 
+    // 토큰에 추가로 담는 claim 이름
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_ROLES = "roles";
+    private static final String CLAIM_ACTIVE = "active";
+
     // application.yml에서 값 주입
     @Value("${jwt.secret}")
     private String secretKey;
@@ -28,33 +45,91 @@ public class JwtTokenProvider {
     @Value("${jwt.expiration}")
     private long validityInMilliseconds;
 
-    // 나중에 만들 예정
+    // 검증 캐시 최대 토큰 수
+    @Value("${jwt.cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    // true: claims만으로 principal 생성 (DB 조회 없음)
+    // false: 매 요청마다 UserDetailsService로 조회
+    @Value("${jwt.stateless-principal:true}")
+    private boolean statelessPrincipal;
+
+    // claims에 uid가 없는 예전 토큰, 또는 stateless 모드를 끈 경우에 사용
     private final UserDetailsService userDetailsService;
 
+    // 비활성화된 사용자 토큰 거부용
+    private final RevokedUserRegistry revokedUserRegistry;
+
+    // roles claim에 넣을 권한 결정 (관리자 여부)
+    private final AdminAccounts adminAccounts;
+
     // JWT 서명에 사용할 키
     private SecretKey key;
 
+    // 미리 만들어 둔 파서 (불변 객체라 스레드 간 공유 가능)
+    private JwtParser parser;
+
+    // 검증이 끝난 토큰의 Claims 캐시 (키: 토큰 SHA-256, 토큰 만료 시각까지 보관)
+    private Cache<String, Claims> verifiedClaims;
+
     /**
      * Bean 생성 후 초기화
-     * secretKey를 SecretKey 객체로 변환
+     * secretKey를 SecretKey 객체로 변환하고, 파서와 검증 캐시를 한 번만 생성
      *
      */
     @PostConstruct
     protected void init(){
         // 문자열 키를 SecretKey 객체로 변환
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String digest, Claims claims, long currentTime) {
+                        // 토큰 만료 시각까지 남은 시간만큼만 보관 (exp 없는 토큰은 캐시하지 않음)
+                        if (claims.getExpiration() == null) {
+                            return 0;
+                        }
+                        long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
         log.info("JWT 토큰 프로바이더 초기화 완료");
     }
 
     /**
      * JWT 토큰 생성
      *
-     * @Param email 사용자 이메일 (subject에 저장)
+     * subject(이메일) 외에 사용자 ID, 권한, 활성화 상태를 함께 담아서
+     * 요청마다 DB를 조회하지 않고 인증 정보를 만들 수 있게 합니다.
+     *
+     * @Param user 로그인(가입)한 사용자
      * @return 생성된 JWT 토큰 문자열
      */
-    public String createToken(String email){
+    public String createToken(User user){
+        String email = user.getEmail();
+
         //Claims : JWT에 담을 정보
-        Claims claims = Jwts.claims().subject(email).build();
+        Claims claims = Jwts.claims()
+                .subject(email)
+                .add(CLAIM_USER_ID, user.getId())
+                .add(CLAIM_ROLES, adminAccounts.rolesOf(email))
+                .add(CLAIM_ACTIVE, user.getIsActive())
+                .build();
 
         // 현재 시간
         Date now = new Date();
@@ -79,11 +154,14 @@ public class JwtTokenProvider {
      * @return Spring Security의 Authentication 객체
      */
     public Authentication getAuthentication(String token){
-        // 토큰에서 사용자 이메일 추출
-        String email = getUserEmail(token);
+        // 1. 검증된 Claims 가져오기 (validateToken에서 캐시됨)
+        Claims claims = parseClaims(token);
+        Long userId = claims.get(CLAIM_USER_ID, Long.class);
 
-        // UserDetailsService로 사용자 정보 로드
-        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        // 2. claims로 사용자 정보 생성, 불가능하면 DB 조회
+        UserDetails userDetails = (statelessPrincipal && userId != null)
+                ? createPrincipal(userId, claims)
+                : userDetailsService.loadUserByUsername(claims.getSubject());
 
         // Authentication 객체 생성 (Spring Security가 인식)
         return new UsernamePasswordAuthenticationToken(
@@ -93,6 +171,32 @@ public class JwtTokenProvider {
         );
     }
 
+    /**
+     * Claims만으로 UserPrincipal 생성 (DB 조회 없음)
+     *
+     * @param userId 토큰의 사용자 ID
+     * @param claims 검증된 Claims
+     * @return UserPrincipal
+     * @throws DisabledException 비활성화(무효화)된 사용자의 토큰인 경우
+     */
+    private UserPrincipal createPrincipal(Long userId, Claims claims) {
+        // 1. 발급 당시 비활성 계정이었거나, 발급 후 무효화된 사용자면 거부
+        if (Boolean.FALSE.equals(claims.get(CLAIM_ACTIVE, Boolean.class))
+                || revokedUserRegistry.isRevoked(userId, claims.getIssuedAt())) {
+            throw new DisabledException("비활성화된 계정입니다. userId = " + userId);
+        }
+
+        // 2. 권한 목록 복원 (roles claim이 없으면 기본 권한)
+        List<?> roles = claims.get(CLAIM_ROLES, List.class);
+        List<GrantedAuthority> authorities = (roles == null || roles.isEmpty())
+                ? List.of(new SimpleGrantedAuthority(UserPrincipal.DEFAULT_ROLE))
+                : roles.stream()
+                        .<GrantedAuthority>map(role -> new SimpleGrantedAuthority(role.toString()))
+                        .toList();
+
+        return new UserPrincipal(userId, claims.getSubject(), null, authorities, true);
+    }
+
     /**
      * JWT 토큰에서 사용자 이메일 추출
      *
@@ -100,13 +204,8 @@ public class JwtTokenProvider {
      * @return 사용자 이메일
      */
     public String getUserEmail(String token){
-        // 토큰 파싱 후 subject(이메일)반환
-        return Jwts.parser()
-                .verifyWith(key)            // 서명 검증
-                .build()
-                .parseSignedClaims(token)   // 토큰 파싱
-                .getPayload()               // Claims 추출
-                .getSubject();              // subject(이메일) 반환
+        // 검증된 Claims에서 subject(이메일) 반환
+        return parseClaims(token).getSubject();
     }
 
     /**
@@ -117,11 +216,8 @@ public class JwtTokenProvider {
      */
     public boolean validateToken(String token){
         try {
-            // 토큰 파싱 시도 (서명 검증 + 만료 시간 확인)
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
+            // 토큰 파싱 시도 (서명 검증 + 만료 시간 확인, 캐시에 있으면 생략)
+            parseClaims(token);
 
             log.debug("JWT 토큰 검증 성공");
             return true;
@@ -138,6 +234,34 @@ public class JwtTokenProvider {
         return false;
     }
 
+    /**
+     * 토큰 파싱 + 서명 검증 (결과 캐시)
+     *
+     * 같은 토큰은 만료될 때까지 한 번만 파싱/검증합니다.
+     * 검증에 실패한 토큰은 캐시하지 않고 예외를 그대로 던집니다.
+     *
+     * @param token JWT 토큰
+     * @return 검증된 Claims
+     */
+    private Claims parseClaims(String token) {
+        return verifiedClaims.get(digest(token), d -> parser.parseSignedClaims(token).getPayload());
+    }
+
+    /**
+     * 토큰 SHA-256 해시 (캐시 키)
+     *
+     * 토큰 원문을 메모리에 들고 있지 않기 위해 해시를 키로 사용
+     */
+    private String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] hash = sha256.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
     /**
      * HTTP 요청 헤더에서 토큰 추출
      *
@@ -213,4 +337,22 @@ public class JwtTokenProvider {
  *    - 너무 길면 보안 위험
  *    - 너무 짧으면 사용자 불편
  *    - 추천: Access Token 1-7일, Refresh Token 14-30일
+ *
+ * ===== 검증 결과 캐시 =====
+ *
+ * 같은 토큰이 요청마다 들어오는데 매번 Base64 디코딩 + JSON 파싱 + HMAC 계산을 반복할 필요는 없음
+ * - 파서(JwtParser)는 init()에서 한 번만 생성해서 재사용
+ * - 검증에 성공한 Claims는 토큰 SHA-256 해시를 키로 캐시
+ * - 캐시 항목은 토큰의 exp 시각에 맞춰 만료 → 만료된 토큰이 캐시로 통과하는 일 없음
+ * - 검증 실패(위변조, 형식 오류)는 캐시하지 않음 → 매번 예외 처리 경로로
+ *
+ * ===== Stateless Principal =====
+ *
+ * 예전: 요청마다 loadUserByUsername() → SELECT * FROM users WHERE email = ?
+ * 지금: 토큰에 uid, roles, active를 서명해서 넣고 claims로 UserPrincipal 생성
+ * - 서명이 맞으면 claims 내용은 서버가 발급한 그대로라 믿을 수 있음
+ * - 대신 발급 후 계정이 비활성화되어도 토큰은 살아있음
+ *   → RevokedUserRegistry(메모리 deny-list)로 해당 사용자의 기존 토큰 거부
+ *   → 서버가 여러 대라면 Redis 같은 공유 저장소로 옮겨야 함
+ * - uid가 없는 예전 토큰이나 jwt.stateless-principal=false 일 때는 DB 조회로 동작
  */
\ No newline at end of file
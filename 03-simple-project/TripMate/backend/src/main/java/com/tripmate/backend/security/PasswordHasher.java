@@ -0,0 +1,172 @@
+package com.tripmate.backend.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 비밀번호 해싱 전용 실행기
+ *
+ * BCrypt는 한 번에 수십 ms의 CPU를 쓰므로 요청 스레드에서 바로 실행하면
+ * 로그인이 몰릴 때 CPU를 다 차지해 여행 API까지 느려집니다.
+ *
+ * 1. 해싱은 CPU 코어 수만큼의 전용 스레드에서만 실행 (동시에 도는 BCrypt 수 제한)
+ * 2. 대기열은 고정 크기, 가득 차면 바로 503 (요청이 끝없이 쌓이지 않음)
+ * 3. 대기열에서 timeout 이상 기다리면 503
+ *
+ * 설정한 work factor와 다른 비용으로 저장된 해시는 로그인 성공 시 다시 해싱합니다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    // BCrypt 해시의 비용 부분: $2a$10$...
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d{2})\\$");
+
+    private final PasswordEncoder passwordEncoder;
+    private final int strength;
+    private final long timeoutMillis;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            @Value("${auth.password.bcrypt-strength:10}") int strength,
+            @Value("${auth.password.hash-threads:0}") int threads,
+            @Value("${auth.password.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.password.timeout-ms:2000}") long timeoutMillis
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.strength = strength;
+        this.timeoutMillis = timeoutMillis;
+
+        // 0이면 CPU 코어 수
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bcrypt-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor.prestartAllCoreThreads();
+        log.info("비밀번호 해싱 풀: threads={}, queue={}, strength={}", poolSize, queueCapacity, strength);
+    }
+
+    /**
+     * 비밀번호 해싱 (회원가입)
+     *
+     * @param rawPassword 평문 비밀번호
+     * @return BCrypt 해시
+     * @throws PasswordHashingBusyException 해싱 풀이 포화 상태일 때
+     */
+    public String encode(CharSequence rawPassword) {
+        return await(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 비밀번호 검증 (로그인)
+     *
+     * @param rawPassword 평문 비밀번호
+     * @param encodedPassword 저장된 해시
+     * @return 일치하면 true
+     * @throws PasswordHashingBusyException 해싱 풀이 포화 상태일 때
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return await(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시의 비용이 현재 설정과 다른지 확인
+     *
+     * work factor를 올리거나 내린 뒤 기존 사용자 해시를 점진적으로 맞추는 데 사용
+     *
+     * @param encodedPassword 저장된 해시
+     * @return 다시 해싱해야 하면 true
+     */
+    public boolean needsRehash(String encodedPassword) {
+        Matcher m = BCRYPT_COST.matcher(encodedPassword);
+        return !m.find() || Integer.parseInt(m.group(1)) != strength;
+    }
+
+    /**
+     * 새 비용으로 다시 해싱 (응답을 기다리지 않음)
+     *
+     * 대기열이 차 있으면 건너뜀 → 다음 로그인 때 다시 시도
+     *
+     * @param rawPassword 평문 비밀번호
+     * @param onHashed 새 해시를 받아 저장하는 콜백 (해싱 스레드에서 실행)
+     */
+    public void rehashLater(CharSequence rawPassword, Consumer<String> onHashed) {
+        try {
+            executor.execute(() -> {
+                try {
+                    onHashed.accept(passwordEncoder.encode(rawPassword));
+                } catch (RuntimeException e) {
+                    log.warn("비밀번호 재해싱 실패", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("해싱 풀 포화로 재해싱 건너뜀");
+        }
+    }
+
+    /**
+     * 해싱 풀에 작업을 넣고 결과를 기다림
+     *
+     * 요청 스레드는 결과를 기다리기만 하고 CPU는 쓰지 않음
+     */
+    private <T> T await(Callable<T> task) {
+        // 1. 대기열이 가득 차면 바로 거절
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("비밀번호 해싱 풀 포화: active={}, queued={}",
+                    executor.getActiveCount(), executor.getQueue().size());
+            throw new PasswordHashingBusyException("요청이 많아 잠시 후 다시 시도해 주세요");
+        }
+
+        // 2. 결과 대기 (timeout 초과 시 작업 취소 후 거절)
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            log.warn("비밀번호 해싱 대기 시간 초과: {}ms", timeoutMillis);
+            throw new PasswordHashingBusyException("요청이 많아 잠시 후 다시 시도해 주세요");
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("요청이 취소되었습니다");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("비밀번호 해싱 실패", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,28 @@
+package com.tripmate.backend.security;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 비밀번호 해싱 풀이 포화 상태일 때 발생
+ *
+ * 503 Service Unavailable + Retry-After 헤더로 응답
+ * (요청을 오래 붙잡고 있지 않고 바로 거절 → 클라이언트가 잠시 후 재시도)
+ */
+public class PasswordHashingBusyException extends ResponseStatusException {
+
+    // 재시도까지 권장 대기 시간 (초)
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    public PasswordHashingBusyException(String reason) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, reason);
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        return headers;
+    }
+}
@@ -0,0 +1,106 @@
+package com.tripmate.backend.security;
+
+import com.tripmate.backend.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 토큰 무효화 대상 사용자 목록 (메모리 deny-list)
+ *
+ * JWT claims만으로 인증하면 계정을 비활성화해도 이미 발급된 토큰은 만료 전까지 유효합니다.
+ * 그래서 비활성화된 사용자 id와 시각을 기록해 두고,
+ * 그 시각 이전에 발급된 토큰은 거부합니다.
+ *
+ * 토큰 유효기간이 지난 항목은 더 이상 막을 토큰이 없으므로 정리합니다.
+ *
+ * 목록은 메모리에만 있으므로 기동 시 유효기간 안에 비활성화된 사용자를 DB에서 다시 채웁니다.
+ * (재시작 / 다른 인스턴스에서 비활성화된 계정의 토큰도 거부)
+ */
+@Slf4j
+@Component
+public class RevokedUserRegistry {
+
+    private final UserRepository userRepository;
+
+    // 토큰 유효기간 (이보다 오래된 항목은 제거)
+    private final long validityInMilliseconds;
+
+    // userId → 무효화 시각 (밀리초)
+    private final Map<Long, Long> revokedAt = new ConcurrentHashMap<>();
+
+    public RevokedUserRegistry(
+            UserRepository userRepository,
+            @Value("${jwt.expiration}") long validityInMilliseconds
+    ) {
+        this.userRepository = userRepository;
+        this.validityInMilliseconds = validityInMilliseconds;
+    }
+
+    /**
+     * 서버 기동 후 토큰 유효기간 안에 비활성화된 사용자로 목록 복원
+     *
+     * 비활성화 시각은 users.update_at으로 대신함
+     * (그 뒤에 다른 수정이 있었다면 더 늦은 시각 → 그 전에 발급된 토큰은 여전히 거부)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDateTime since = LocalDateTime.now(zone).minus(Duration.ofMillis(validityInMilliseconds));
+
+        List<UserRepository.DeactivatedRow> rows = userRepository.findByIsActiveFalseAndUpdateAtAfter(since);
+        rows.forEach(row -> revokedAt.merge(
+                row.getId(), row.getUpdateAt().atZone(zone).toInstant().toEpochMilli(), Math::max));
+
+        log.info("토큰 무효화 목록 복원 완료: {}명", rows.size());
+    }
+
+    /**
+     * 사용자의 기존 토큰을 모두 무효화
+     *
+     * 계정 비활성화, 비밀번호 변경 등에서 호출
+     *
+     * @param userId 사용자 ID
+     */
+    public void revoke(Long userId) {
+        long now = System.currentTimeMillis();
+        revokedAt.merge(userId, now, Math::max);
+        log.info("사용자 토큰 무효화: userId={}", userId);
+
+        // 유효기간이 지난 항목 정리
+        revokedAt.values().removeIf(time -> time < now - validityInMilliseconds);
+    }
+
+    /**
+     * 무효화된 토큰인지 확인
+     *
+     * @param userId 토큰의 사용자 ID
+     * @param issuedAt 토큰 발급 시각
+     * @return 무효화 이전에 발급된 토큰이면 true
+     */
+    public boolean isRevoked(Long userId, Date issuedAt) {
+        Long time = revokedAt.get(userId);
+        if (time == null) {
+            return false;
+        }
+        // iat는 초 단위로 잘리므로 같은 초에 발급된 토큰도 거부
+        return issuedAt == null || issuedAt.getTime() <= time;
+    }
+
+    /**
+     * 현재 등록된 사용자 수
+     */
+    public int size() {
+        return revokedAt.size();
+    }
+}
@@ -0,0 +1,59 @@
+package com.tripmate.backend.security;
+
+import com.tripmate.backend.entity.User;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 인증된 사용자 정보 (SecurityContext에 저장되는 principal)
+ *
+ * Spring Security 기본 User와 달리 사용자 id를 함께 들고 있어서
+ * 서비스 계층에서 이메일로 다시 조회하지 않아도 됩니다.
+ *
+ * JWT claims만으로 만든 경우 password는 null입니다.
+ * (토큰 인증이므로 비밀번호가 필요 없음)
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserPrincipal implements UserDetails {
+
+    // 기본 권한 (관리자는 AdminAccounts가 ROLE_ADMIN을 추가)
+    public static final String DEFAULT_ROLE = "ROLE_USER";
+
+    private final Long id;
+    private final String email;
+    private final String password;
+    private final Collection<? extends GrantedAuthority> authorities;
+    private final boolean enabled;
+
+    /**
+     * User 엔티티로부터 생성 (DB 조회 경로)
+     *
+     * @param user User 엔티티
+     * @param roles 권한 목록 (AdminAccounts.rolesOf)
+     * @return UserPrincipal
+     */
+    public static UserPrincipal from(User user, List<String> roles) {
+        return new UserPrincipal(
+                user.getId(),
+                user.getEmail(),
+                user.getPassword(),
+                roles.stream().<GrantedAuthority>map(SimpleGrantedAuthority::new).toList(),
+                user.getIsActive()
+        );
+    }
+
+    /**
+     * Spring Security는 username이라는 이름을 쓰지만 우리는 이메일을 사용
+     */
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
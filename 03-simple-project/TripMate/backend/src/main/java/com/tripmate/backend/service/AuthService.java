@@ -7,9 +7,11 @@ import com.tripmate.backend.dto.response.UserResponse;
 import com.tripmate.backend.entity.User;
 import com.tripmate.backend.repository.UserRepository;
 import com.tripmate.backend.security.JwtTokenProvider;
+import com.tripmate.backend.security.PasswordHasher;
+import com.tripmate.backend.security.RevokedUserRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +19,10 @@ import org.springframework.transaction.annotation.Transactional;
  * 인증 서비스
  *
  * 회원가입과 로그인 비즈니스 로직을 처리합니다.
+ *
+ * 비밀번호 해싱은 PasswordHasher의 전용 스레드 풀에서 실행합니다.
+ * 해싱하는 동안 DB 커넥션을 잡고 있지 않도록 signup/login은 트랜잭션으로 감싸지 않습니다.
+ * (조회/저장은 각 Repository 메서드의 트랜잭션으로 실행)
  */
 @Slf4j
 @Service
@@ -24,8 +30,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final SignupEmailFilter signupEmailFilter;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RevokedUserRegistry revokedUserRegistry;
 
     /**
      * 회원가입
@@ -33,19 +41,19 @@ public class AuthService {
      * @param request 회원가입 요청 데이터
      * @return 인증 응답 (토큰 + 사용자 정보)
      * @throws IllegalArgumentException 이메일 중복 시
+     * @throws com.tripmate.backend.security.PasswordHashingBusyException 해싱 풀 포화 시 (503)
      */
-    @Transactional
     public AuthResponse signup(SignupRequest request) {
         log.info("회원가입 시도: email={}", request.getEmail());
 
-        // 1. 이메일 중복 체크
-        if (userRepository.existsByEmail(request.getEmail())) {
+        // 1. 이메일 중복 체크 (필터가 "확실히 없음"이면 DB 조회 생략)
+        if (isEmailDuplicate(request.getEmail())) {
             log.warn("이미 존재하는 이메일: {}", request.getEmail());
             throw new IllegalArgumentException("이미 사용 중인 이메일입니다");
         }
 
         // 2. 비밀번호 암호화
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
+        String encodedPassword = passwordHasher.encode(request.getPassword());
         log.debug("비밀번호 암호화 완료");
 
         // 3. User 엔티티 생성
@@ -56,12 +64,19 @@ public class AuthService {
                 .isActive(true)  // 기본값이지만 명시적으로
                 .build();
 
-        // 4. DB 저장
-        User savedUser = userRepository.save(user);
+        // 4. DB 저장 (동시에 같은 이메일로 가입하면 UNIQUE 제약이 최종 판정)
+        User savedUser;
+        try {
+            savedUser = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("이미 존재하는 이메일 (동시 가입): {}", request.getEmail());
+            throw new IllegalArgumentException("이미 사용 중인 이메일입니다");
+        }
+        signupEmailFilter.add(savedUser.getEmail());
         log.info("회원가입 완료: userId={}, email={}", savedUser.getId(), savedUser.getEmail());
 
         // 5. JWT 토큰 생성
-        String token = jwtTokenProvider.createToken(savedUser.getEmail());
+        String token = jwtTokenProvider.createToken(savedUser);
 
         // 6. 응답 생성
         return AuthResponse.builder()
@@ -76,8 +91,8 @@ public class AuthService {
      * @param request 로그인 요청 데이터
      * @return 인증 응답 (토큰 + 사용자 정보)
      * @throws IllegalArgumentException 인증 실패 시
+     * @throws com.tripmate.backend.security.PasswordHashingBusyException 해싱 풀 포화 시 (503)
      */
-    @Transactional(readOnly = true)
     public AuthResponse login(LoginRequest request) {
         log.info("로그인 시도: email={}", request.getEmail());
 
@@ -95,15 +110,26 @@ public class AuthService {
         }
 
         // 3. 비밀번호 검증
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(request.getPassword(), user.getPassword())) {
             log.warn("비밀번호 불일치: email={}", request.getEmail());
             throw new IllegalArgumentException("이메일 또는 비밀번호가 일치하지 않습니다");
         }
 
+        // 3-1. work factor가 바뀌었으면 새 비용으로 다시 해싱 (응답은 기다리지 않음)
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            Long userId = user.getId();
+            String oldHash = user.getPassword();
+            passwordHasher.rehashLater(request.getPassword(), newHash -> {
+                if (userRepository.updatePasswordIfUnchanged(userId, oldHash, newHash) > 0) {
+                    log.info("비밀번호 재해싱 완료: userId={}", userId);
+                }
+            });
+        }
+
         log.info("로그인 성공: userId={}, email={}", user.getId(), user.getEmail());
 
         // 4. JWT 토큰 생성
-        String token = jwtTokenProvider.createToken(user.getEmail());
+        String token = jwtTokenProvider.createToken(user);
 
         // 5. 응답 생성
         return AuthResponse.builder()
@@ -112,16 +138,40 @@ public class AuthService {
                 .build();
     }
 
+    /**
+     * 계정 비활성화
+     *
+     * 토큰 claims만으로 인증하므로(stateless principal) 비활성화만 해서는
+     * 이미 발급된 토큰이 만료 전까지 유효합니다.
+     * 커밋 후 RevokedUserRegistry에 등록해 그 이전에 발급된 토큰을 모두 거부합니다.
+     *
+     * @param userId 비활성화할 사용자 ID
+     * @throws IllegalArgumentException 존재하지 않는 사용자
+     */
+    @Transactional
+    public void deactivate(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+
+        user.deactivte();
+        TransactionHooks.afterCommit(() -> revokedUserRegistry.revoke(userId));
+        log.info("계정 비활성화: userId={}", userId);
+    }
+
     /**
      * 이메일 중복 체크
      *
      * 회원가입 폼에서 실시간 중복 체크용
+     * 가입 이메일 필터가 "확실히 없음"이라고 하면 DB를 조회하지 않습니다.
+     * (트랜잭션도 열지 않음 → 커넥션을 잡지 않음)
      *
      * @param email 체크할 이메일
      * @return 중복이면 true, 사용 가능하면 false
      */
-    @Transactional(readOnly = true)
     public boolean isEmailDuplicate(String email) {
+        if (!signupEmailFilter.mightExist(email)) {
+            return false;
+        }
         return userRepository.existsByEmail(email);
     }
 }
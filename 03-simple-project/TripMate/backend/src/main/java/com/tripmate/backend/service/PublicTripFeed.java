@@ -0,0 +1,221 @@
+package com.tripmate.backend.service;
+
+import com.tripmate.backend.dto.request.TripCursor;
+import com.tripmate.backend.dto.response.TripResponse;
+import com.tripmate.backend.repository.TripRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 공개 여행 피드 (메모리)
+ *
+ * 최신 공개 여행 N개를 TripResponse 형태로 들고 있다가
+ * GET /trips/public 요청을 DB 조회 없이 바로 응답합니다.
+ *
+ * - 읽기: volatile 스냅샷을 잠금 없이 읽음
+ * - 쓰기: 여행 생성/수정/삭제/공개 전환이 커밋된 뒤 스냅샷을 새로 만들어 교체 (copy-on-write)
+ * - 피드 범위를 벗어난 페이지는 null을 반환 → 호출 측에서 DB 조회
+ *
+ * 변경될 때마다 version이 올라가고, 이 값으로 ETag를 만듭니다.
+ *
+ * synchronized 대신 ReentrantLock을 사용합니다.
+ * (가상 스레드가 synchronized 안에서 DB 조회로 블로킹되면 캐리어 스레드까지 묶임 - Java 21)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PublicTripFeed {
+
+    // 최신순 정렬 (createdAt DESC, id DESC)
+    private static final Comparator<TripResponse> LATEST_FIRST =
+            Comparator.comparing(TripResponse::getCreatedAt)
+                    .thenComparing(TripResponse::getId)
+                    .reversed();
+
+    private final TripRepository tripRepository;
+
+    // 메모리에 유지할 최신 공개 여행 수
+    @Value("${trip.feed.capacity:500}")
+    private int capacity;
+
+    // 서버 재시작 후에도 이전 ETag와 겹치지 않도록 기동 시각을 섞음
+    private final String epoch = Long.toHexString(System.currentTimeMillis());
+
+    // 쓰기는 lock, 읽기는 스냅샷 참조만
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+    private volatile long version;
+
+    /**
+     * 피드 스냅샷
+     *
+     * @param trips 최신순 공개 여행 (불변 리스트)
+     * @param complete true면 모든 공개 여행이 들어있음 (DB에 더 오래된 공개 여행 없음)
+     */
+    private record Snapshot(List<TripResponse> trips, boolean complete) {
+    }
+
+    /**
+     * 현재 피드 ETag
+     *
+     * 공개 여행이 바뀔 때마다 값이 달라짐
+     *
+     * @return ETag 값 (따옴표 포함)
+     */
+    public String currentETag() {
+        return "\"" + epoch + "-" + version + "\"";
+    }
+
+    /**
+     * 피드에서 한 페이지 조회
+     *
+     * @param after 커서 (첫 페이지면 null)
+     * @param limit 조회 개수 (size + 1)
+     * @return 여행 목록, 피드로 응답할 수 없으면 null
+     */
+    public List<TripResponse> page(TripCursor after, int limit) {
+        Snapshot current = loadIfNeeded();
+        List<TripResponse> trips = current.trips();
+
+        // 1. 커서 다음 위치 찾기
+        int from = (after == null) ? 0 : indexAfter(trips, after);
+
+        // 2. 피드 안에 요청한 개수가 다 있거나, 피드가 전체를 담고 있으면 피드로 응답
+        int to = Math.min(from + limit, trips.size());
+        if (to - from < limit && !current.complete()) {
+            return null;
+        }
+        return trips.subList(from, to);
+    }
+
+    /**
+     * 여행 변경 반영 (커밋 후 호출)
+     *
+     * 공개 여행이면 추가/교체, 비공개면 제거
+     *
+     * @param trip 변경된 여행
+     */
+    public void apply(TripResponse trip) {
+        lock.lock();
+        try {
+            version++;
+            Snapshot current = snapshot;
+            if (current == null) {
+                // 아직 로딩 전이면 나중에 DB에서 최신 상태를 읽음
+                return;
+            }
+
+            List<TripResponse> trips = new ArrayList<>(current.trips());
+            trips.removeIf(t -> t.getId().equals(trip.getId()));
+            boolean complete = current.complete();
+
+            if (Boolean.TRUE.equals(trip.getIsPublic())) {
+                int pos = insertionPoint(trips, trip);
+                // 피드가 일부만 담고 있을 때 가장 오래된 것보다 뒤라면 위치를 알 수 없으므로 넣지 않음
+                if (pos < trips.size() || complete) {
+                    trips.add(pos, trip);
+                }
+            }
+
+            // 용량 초과분 제거
+            if (trips.size() > capacity) {
+                trips.subList(capacity, trips.size()).clear();
+                complete = false;
+            }
+
+            snapshot = new Snapshot(List.copyOf(trips), complete);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 여행 삭제 반영 (커밋 후 호출)
+     *
+     * @param tripId 삭제된 여행 ID
+     */
+    public void remove(Long tripId) {
+        lock.lock();
+        try {
+            version++;
+            Snapshot current = snapshot;
+            if (current == null) {
+                return;
+            }
+            List<TripResponse> trips = new ArrayList<>(current.trips());
+            if (trips.removeIf(t -> t.getId().equals(tripId))) {
+                snapshot = new Snapshot(List.copyOf(trips), current.complete());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 최초 요청 시 DB에서 최신 공개 여행을 읽어 피드 생성
+     *
+     * 쓰기와 같은 잠금 안에서 조회하므로 로딩 중 커밋된 변경을 놓치지 않음
+     */
+    private Snapshot loadIfNeeded() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        lock.lock();
+        try {
+            if (snapshot == null) {
+                List<TripResponse> trips = tripRepository.findPublicTripPage(PageRequest.of(0, capacity));
+                snapshot = new Snapshot(List.copyOf(trips), trips.size() < capacity);
+                log.info("공개 여행 피드 로딩 완료: {}건", trips.size());
+            }
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 커서 바로 다음 여행의 위치 (이진 탐색)
+     */
+    private int indexAfter(List<TripResponse> trips, TripCursor after) {
+        int low = 0;
+        int high = trips.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            TripResponse t = trips.get(mid);
+            int cmp = t.getCreatedAt().compareTo(after.getCreatedAt());
+            // 최신순이므로 커서보다 새롭거나 같은 항목이면 오른쪽으로
+            if (cmp > 0 || (cmp == 0 && t.getId() >= after.getId())) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 정렬 순서를 유지하는 삽입 위치
+     */
+    private int insertionPoint(List<TripResponse> trips, TripResponse trip) {
+        int low = 0;
+        int high = trips.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (LATEST_FIRST.compare(trips.get(mid), trip) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
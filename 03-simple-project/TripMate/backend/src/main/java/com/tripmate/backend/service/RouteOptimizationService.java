@@ -0,0 +1,229 @@
+package com.tripmate.backend.service;
+
+import com.tripmate.backend.dto.response.RouteOptimizationResponse;
+import com.tripmate.backend.dto.response.ScheduleResponse;
+import com.tripmate.backend.entity.Schedule;
+import com.tripmate.backend.geo.RouteOptimizer;
+import com.tripmate.backend.repository.ScheduleRepository;
+import com.tripmate.backend.repository.TripRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동선 최적화 서비스
+ *
+ * 날짜별로 좌표가 있는 일정의 방문 순서를 RouteOptimizer로 다시 계산하고
+ * updateOrder()로 저장합니다.
+ *
+ * - 날짜끼리는 서로 독립이므로 parallelStream(공용 ForkJoinPool)으로 동시에 계산
+ * - 모든 날짜가 같은 마감 시각(시간 예산)을 공유
+ * - 각 날짜의 첫 일정(숙소, 공항 등)은 출발지로 고정
+ * - 좌표가 없는 일정은 그 날짜의 맨 뒤로 (원래 순서 유지)
+ *
+ * 계산은 최대 5초까지 걸리므로 그동안 DB 커넥션을 잡고 있지 않도록 트랜잭션을 나눕니다.
+ * 1. 짧은 읽기 트랜잭션: 권한 확인 + 일정 조회
+ * 2. 트랜잭션 없이 계산
+ * 3. 짧은 쓰기 트랜잭션: 그 사이 날짜별 일정(ID, 순서)이 바뀌지 않았는지 확인 후 저장
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RouteOptimizationService {
+
+    // 시간 예산 상한 (ms)
+    public static final long MAX_TIME_BUDGET_MS = 5000;
+
+    private final ScheduleRepository scheduleRepository;
+    private final TripRepository tripRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 하루 계산 단위 (엔티티 대신 좌표 배열만 넘겨서 다른 스레드에서 안전하게 계산)
+     *
+     * @param located 좌표가 있는 일정 ID (현재 순서)
+     * @param unlocated 좌표가 없는 일정 ID (현재 순서)
+     * @param snapshot 조회 당시 그 날짜의 일정 (ID → orderIndex, 저장 전 변경 확인용)
+     */
+    private record DayPlan(LocalDate date, List<Long> located, List<Long> unlocated,
+                           double[] lats, double[] lons, Map<Long, Integer> snapshot) {
+
+        static DayPlan of(LocalDate date, List<Schedule> schedules) {
+            List<Schedule> located = new ArrayList<>();
+            List<Long> unlocated = new ArrayList<>();
+            Map<Long, Integer> snapshot = new HashMap<>();
+            for (Schedule s : schedules) {
+                if (s.getLatitude() != null && s.getLongitude() != null) {
+                    located.add(s);
+                } else {
+                    unlocated.add(s.getId());
+                }
+                snapshot.put(s.getId(), s.getOrderIndex());
+            }
+            double[] lats = new double[located.size()];
+            double[] lons = new double[located.size()];
+            for (int i = 0; i < located.size(); i++) {
+                lats[i] = located.get(i).getLatitude();
+                lons[i] = located.get(i).getLongitude();
+            }
+            return new DayPlan(date, located.stream().map(Schedule::getId).toList(), unlocated, lats, lons, snapshot);
+        }
+
+        /**
+         * 지금 그 날짜의 일정이 조회 당시와 같은지 (추가/삭제/순서 변경 없음)
+         */
+        boolean matches(List<Schedule> current) {
+            if (current.size() != snapshot.size()) {
+                return false;
+            }
+            for (Schedule s : current) {
+                Integer orderIndex = snapshot.get(s.getId());
+                if (!snapshot.containsKey(s.getId()) || !Objects.equals(orderIndex, s.getOrderIndex())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    // 계산 결과 (새 순서 = located 인덱스 배열)
+    private record DayResult(DayPlan plan, int[] order) {
+    }
+
+    /**
+     * 여행 동선 최적화
+     *
+     * @param tripId 여행 ID
+     * @param date 특정 날짜만 (null이면 전체 날짜)
+     * @param timeBudgetMs 계산 시간 예산 (ms)
+     * @param userId 로그인한 사용자 ID
+     * @return 날짜별 최적화 결과
+     * @throws IllegalArgumentException 권한이 없거나, 계산하는 동안 일정이 바뀐 경우
+     */
+    public RouteOptimizationResponse optimize(Long tripId, LocalDate date, long timeBudgetMs, Long userId) {
+        long start = System.nanoTime();
+        long budgetNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, Math.min(timeBudgetMs, MAX_TIME_BUDGET_MS)));
+        long deadline = start + budgetNanos;
+
+        // 1. 읽기 트랜잭션: 권한 체크 + 일정 조회 후 날짜별로 나누기 (좌표/ID만 꺼내고 바로 커넥션 반환)
+        List<DayPlan> plans = transactionTemplate.execute(status -> load(tripId, date, userId));
+
+        // 2. 트랜잭션 없이 날짜별 병렬 계산 (좌표 배열만 사용)
+        List<DayResult> results = plans.parallelStream()
+                .map(plan -> new DayResult(plan, RouteOptimizer.optimize(plan.lats(), plan.lons(), deadline)))
+                .toList();
+
+        // 3. 쓰기 트랜잭션: 날짜별로 다시 조회해서 바뀌지 않았을 때만 저장 (바뀐 것만 UPDATE → 커밋 시 batch)
+        List<RouteOptimizationResponse.DayRoute> days = transactionTemplate.execute(status -> {
+            List<RouteOptimizationResponse.DayRoute> applied = new ArrayList<>();
+            for (DayResult result : results) {
+                applied.add(apply(tripId, result));
+            }
+            return applied;
+        });
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        int scheduleCount = plans.stream().mapToInt(plan -> plan.snapshot().size()).sum();
+        log.info("동선 최적화 완료: tripId={}, days={}, schedules={}, {}ms",
+                tripId, days.size(), scheduleCount, elapsedMs);
+
+        return RouteOptimizationResponse.builder()
+                .days(days)
+                .elapsedMs(elapsedMs)
+                .build();
+    }
+
+    /**
+     * 권한 확인 후 날짜별 계산 단위 생성 (읽기 트랜잭션 안에서 호출)
+     */
+    private List<DayPlan> load(Long tripId, LocalDate date, Long userId) {
+        if (!tripRepository.existsByIdAndOwnerId(tripId, userId)) {
+            throw new IllegalArgumentException("여행을 찾을 수 없거나 권한이 없습니다");
+        }
+
+        List<Schedule> schedules = (date == null)
+                ? scheduleRepository.findByTripIdOrderByDateAscOrderIndexAsc(tripId)
+                : scheduleRepository.findByTripIdAndDateOrderByOrderIndexAsc(tripId, date);
+        Map<LocalDate, List<Schedule>> byDate = new LinkedHashMap<>();
+        for (Schedule schedule : schedules) {
+            byDate.computeIfAbsent(schedule.getDate(), d -> new ArrayList<>()).add(schedule);
+        }
+        return byDate.entrySet().stream()
+                .map(e -> DayPlan.of(e.getKey(), e.getValue()))
+                .toList();
+    }
+
+    /**
+     * 계산된 순서를 일정에 반영 (쓰기 트랜잭션 안에서 호출)
+     *
+     * 계산하는 동안 그 날짜에 일정이 추가/삭제되었거나 순서가 바뀌었으면
+     * 예전 목록으로 계산한 결과이므로 저장하지 않고 전체를 롤백
+     */
+    private RouteOptimizationResponse.DayRoute apply(Long tripId, DayResult result) {
+        DayPlan plan = result.plan();
+        int[] order = result.order();
+
+        List<Schedule> current = scheduleRepository.findForUpdate(tripId, plan.date());
+        if (!plan.matches(current)) {
+            throw new IllegalArgumentException("동선을 계산하는 동안 일정이 변경되었습니다. 다시 시도해 주세요");
+        }
+        Map<Long, Schedule> byId = new HashMap<>();
+        for (Schedule schedule : current) {
+            byId.put(schedule.getId(), schedule);
+        }
+
+        // 좌표 있는 일정(새 순서) → 좌표 없는 일정(기존 순서)
+        List<Schedule> ordered = new ArrayList<>(plan.located().size() + plan.unlocated().size());
+        for (int index : order) {
+            ordered.add(byId.get(plan.located().get(index)));
+        }
+        plan.unlocated().forEach(id -> ordered.add(byId.get(id)));
+
+        for (int i = 0; i < ordered.size(); i++) {
+            Schedule schedule = ordered.get(i);
+            if (schedule.getOrderIndex() != i) {
+                schedule.updateOrder(i);
+            }
+        }
+
+        int[] identity = new int[order.length];
+        for (int i = 0; i < identity.length; i++) {
+            identity[i] = i;
+        }
+
+        return RouteOptimizationResponse.DayRoute.builder()
+                .date(plan.date())
+                .beforeKm(RouteOptimizer.pathLengthKm(plan.lats(), plan.lons(), identity))
+                .afterKm(RouteOptimizer.pathLengthKm(plan.lats(), plan.lons(), order))
+                .schedules(ordered.stream().map(ScheduleResponse::from).toList())
+                .build();
+    }
+}
+
+/*
+ * ===== 동선 최적화 (외판원 문제) =====
+ *
+ * 일정 N개의 방문 순서 경우의 수는 (N-1)! → 정확한 최적해는 N이 조금만 커도 불가능
+ * 그래서 빠르게 "충분히 좋은" 순서를 찾는 휴리스틱 사용
+ *
+ * 1. 최근접 이웃: 지금 위치에서 가장 가까운 곳으로 이동 (O(N²))
+ *    → 보통 최적보다 20~25% 긴 경로
+ * 2. 2-opt: 경로가 X자로 꼬인 부분을 풀기 (구간 뒤집기)
+ * 3. Or-opt: 1~3개 일정을 떼어서 더 나은 자리로 옮기기
+ *    → 2~3을 반복하면 보통 최적의 5% 이내
+ *
+ * ===== 시간 예산 =====
+ *
+ * 2-opt/Or-opt는 개선이 없을 때까지 반복하는데, 일정이 많으면 오래 걸릴 수 있음
+ * → 마감 시각을 넘기면 그때까지의 가장 좋은 순서를 사용 (응답 시간 보장)
+ */
@@ -0,0 +1,278 @@
+package com.tripmate.backend.service;
+
+import com.tripmate.backend.dto.response.NearbyScheduleResponse;
+import com.tripmate.backend.dto.response.ScheduleResponse;
+import com.tripmate.backend.geo.GeoGridIndex;
+import com.tripmate.backend.geo.ScheduleLocation;
+import com.tripmate.backend.geo.TripAccess;
+import com.tripmate.backend.repository.ScheduleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 일정 위치 서비스 (근처 일정 검색)
+ *
+ * 일정 좌표를 메모리 격자 색인(GeoGridIndex)에 올려두고
+ * "반경 R km 이내", "가장 가까운 k개" 질의를 테이블 스캔 없이 처리합니다.
+ *
+ * 일정 생성/수정/삭제, 여행 공개 전환/삭제가 커밋된 뒤 색인에 반영됨
+ *
+ * 색인은 권한별로 나눠 둡니다.
+ * - 공개 여행의 일정: 공용 색인 하나
+ * - 비공개 여행의 일정: 소유자별 색인
+ * 검색은 공용 색인 + 내 색인만 보므로, 볼 수 없는 점을 하나씩 걸러내며 반경 끝까지 훑는 일이 없음
+ */
+@Slf4j
+@Service
+public class ScheduleLocationService {
+
+    // 검색 반경 상한 (km)
+    public static final double MAX_RADIUS_KM = 500;
+
+    // 결과 개수 상한
+    public static final int MAX_RESULTS = 200;
+
+    // 색인 안에서는 권한을 다시 확인하지 않음 (색인 자체가 권한별로 나뉨)
+    private static final Predicate<ScheduleLocation> ALL = loc -> true;
+
+    private static final Comparator<GeoGridIndex.Hit> NEAREST_FIRST =
+            Comparator.comparingDouble(GeoGridIndex.Hit::distanceKm);
+
+    private final ScheduleRepository scheduleRepository;
+
+    private final double cellDegrees;
+
+    // 공개 여행의 일정
+    private final GeoGridIndex publicIndex;
+
+    // 소유자 ID → 비공개 여행의 일정
+    private final Map<Long, GeoGridIndex> privateIndexes = new ConcurrentHashMap<>();
+
+    // tripId → 접근 정보 (어느 색인에 넣을지 결정)
+    private final Map<Long, TripAccess> tripAccess = new ConcurrentHashMap<>();
+
+    public ScheduleLocationService(ScheduleRepository scheduleRepository,
+                                   @Value("${schedule.geo.cell-degrees:0.05}") double cellDegrees) {
+        this.scheduleRepository = scheduleRepository;
+        this.cellDegrees = cellDegrees;
+        this.publicIndex = new GeoGridIndex(cellDegrees);
+    }
+
+    /**
+     * 서버 기동 후 좌표가 있는 일정 전체로 색인 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        long start = System.currentTimeMillis();
+        scheduleRepository.findAccessOfLocatedTrips()
+                .forEach(access -> tripAccess.put(access.getTripId(), access));
+        int count = 0;
+        for (ScheduleLocation loc : scheduleRepository.findAllLocations()) {
+            TripAccess access = tripAccess.get(loc.getTripId());
+            if (access != null) {
+                indexFor(access).put(loc);
+                count++;
+            }
+        }
+        log.info("일정 위치 색인 생성 완료: {}건 (비공개 소유자 {}명), {}ms",
+                count, privateIndexes.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 반경 내 일정 검색
+     *
+     * @param lat 중심 위도
+     * @param lon 중심 경도
+     * @param radiusKm 반경 (km)
+     * @param limit 최대 개수
+     * @param userId 로그인한 사용자 ID (내 여행 + 공개 여행만)
+     * @return 가까운 순 일정 목록
+     */
+    public List<NearbyScheduleResponse> findWithin(double lat, double lon, double radiusKm, int limit, Long userId) {
+        validateCoordinate(lat, lon);
+        if (Double.isNaN(radiusKm)) {
+            throw new IllegalArgumentException("잘못된 반경입니다");
+        }
+        double radius = Math.max(0, Math.min(radiusKm, MAX_RADIUS_KM));
+
+        int max = clampLimit(limit);
+        List<GeoGridIndex.Hit> hits = new ArrayList<>(publicIndex.within(lat, lon, radius, ALL, max));
+        GeoGridIndex mine = privateIndexes.get(userId);
+        if (mine != null) {
+            hits.addAll(mine.within(lat, lon, radius, ALL, max));
+        }
+        return nearestFirst(hits, max);
+    }
+
+    /**
+     * 가장 가까운 일정 k개
+     *
+     * @param lat 중심 위도
+     * @param lon 중심 경도
+     * @param k 개수
+     * @param userId 로그인한 사용자 ID (내 여행 + 공개 여행만)
+     * @return 가까운 순 일정 목록
+     */
+    public List<NearbyScheduleResponse> findNearest(double lat, double lon, int k, Long userId) {
+        validateCoordinate(lat, lon);
+
+        int max = clampLimit(k);
+        List<GeoGridIndex.Hit> hits = new ArrayList<>(publicIndex.nearest(lat, lon, max, MAX_RADIUS_KM, ALL));
+        GeoGridIndex mine = privateIndexes.get(userId);
+        if (mine != null) {
+            hits.addAll(mine.nearest(lat, lon, max, MAX_RADIUS_KM, ALL));
+        }
+        return nearestFirst(hits, max);
+    }
+
+    /**
+     * 일정 저장 반영 (커밋 후 호출)
+     *
+     * 좌표가 없으면 색인에서 제거
+     *
+     * @param schedule 저장된 일정
+     */
+    public synchronized void onScheduleSaved(ScheduleResponse schedule) {
+        // 처음 보는 여행이면 접근 정보 한 번 조회
+        TripAccess access = tripAccess.get(schedule.getTripId());
+        if (access == null) {
+            access = scheduleRepository.findTripAccess(schedule.getTripId()).orElse(null);
+            if (access == null) {
+                return;
+            }
+            tripAccess.put(access.getTripId(), access);
+        }
+
+        GeoGridIndex target = indexFor(access);
+        if (schedule.getLatitude() == null || schedule.getLongitude() == null) {
+            target.remove(schedule.getId());
+            return;
+        }
+        target.put(new ScheduleLocation(
+                schedule.getId(),
+                schedule.getTripId(),
+                schedule.getTitle(),
+                schedule.getLocation(),
+                schedule.getLatitude(),
+                schedule.getLongitude()
+        ));
+    }
+
+    /**
+     * 일정 삭제 반영 (커밋 후 호출)
+     *
+     * @param scheduleId 삭제된 일정 ID
+     */
+    public synchronized void onScheduleDeleted(Long scheduleId) {
+        // 어느 여행의 일정인지 모르므로 모든 색인에서 제거 (없는 ID 제거는 해시 조회 한 번)
+        publicIndex.remove(scheduleId);
+        privateIndexes.values().forEach(index -> index.remove(scheduleId));
+    }
+
+    /**
+     * 여행 공개 여부 변경 반영 (커밋 후 호출)
+     *
+     * @param tripId 여행 ID
+     * @param ownerId 소유자 ID
+     * @param isPublic 공개 여부
+     */
+    public synchronized void onTripChanged(Long tripId, Long ownerId, Boolean isPublic) {
+        TripAccess changed = new TripAccess(tripId, ownerId, isPublic);
+        TripAccess old = tripAccess.put(tripId, changed);
+
+        // 공개 ↔ 비공개가 바뀌었으면 여행의 일정을 다른 색인으로 옮김
+        if (old != null && Boolean.TRUE.equals(old.getIsPublic()) != Boolean.TRUE.equals(isPublic)) {
+            List<ScheduleLocation> moved = indexFor(old).removeIf(loc -> loc.getTripId().equals(tripId));
+            GeoGridIndex target = indexFor(changed);
+            moved.forEach(target::put);
+            dropIfEmpty(old);
+        }
+    }
+
+    /**
+     * 여행 삭제 반영 (커밋 후 호출)
+     *
+     * @param tripId 삭제된 여행 ID
+     */
+    public synchronized void onTripDeleted(Long tripId) {
+        TripAccess old = tripAccess.remove(tripId);
+        if (old != null) {
+            indexFor(old).removeIf(loc -> loc.getTripId().equals(tripId));
+            dropIfEmpty(old);
+        }
+    }
+
+    /**
+     * 여행이 들어갈 색인 (공개 → 공용, 비공개 → 소유자 색인)
+     */
+    private GeoGridIndex indexFor(TripAccess access) {
+        if (Boolean.TRUE.equals(access.getIsPublic())) {
+            return publicIndex;
+        }
+        return privateIndexes.computeIfAbsent(access.getOwnerId(), id -> new GeoGridIndex(cellDegrees));
+    }
+
+    /**
+     * 비어 있는 소유자 색인 정리
+     */
+    private void dropIfEmpty(TripAccess access) {
+        if (!Boolean.TRUE.equals(access.getIsPublic())) {
+            privateIndexes.computeIfPresent(access.getOwnerId(), (id, index) -> index.size() == 0 ? null : index);
+        }
+    }
+
+    /**
+     * 공용 + 내 색인 결과를 합쳐 가까운 순 상위 max개
+     */
+    private static List<NearbyScheduleResponse> nearestFirst(List<GeoGridIndex.Hit> hits, int max) {
+        return hits.stream()
+                .sorted(NEAREST_FIRST)
+                .limit(max)
+                .map(NearbyScheduleResponse::from)
+                .toList();
+    }
+
+    private int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_RESULTS));
+    }
+
+    private void validateCoordinate(double lat, double lon) {
+        // NaN은 모든 비교가 false이므로 범위 안인지를 확인 (Infinity도 여기서 걸러짐)
+        if (!(lat >= -90 && lat <= 90) || !(lon >= -180 && lon <= 180)) {
+            throw new IllegalArgumentException("잘못된 좌표입니다");
+        }
+    }
+}
+
+/*
+ * ===== 왜 메모리 격자 색인? =====
+ *
+ * DB로 반경 검색:
+ *   SELECT * FROM schedule
+ *   WHERE latitude BETWEEN ? AND ? AND longitude BETWEEN ? AND ?
+ * - (latitude, longitude) 인덱스가 있어도 앞 컬럼(latitude) 범위만 인덱스로 좁혀짐
+ *   → 같은 위도 띠에 있는 전 세계 일정을 다 읽고 longitude로 거름
+ * - k개 최근접은 SQL로 표현하기 어려움 (ORDER BY 거리 → 전체 계산)
+ *
+ * 격자 색인:
+ * - 0.05도(약 5km) 칸으로 나눠 칸마다 일정 목록 저장
+ * - 반경 검색은 원을 덮는 칸 몇 개만 확인
+ * - 최근접은 중심 칸부터 한 겹씩 넓혀가다가 충분히 찾으면 중단
+ *
+ * 벤치마크: ./gradlew jmh -Pjmh.includes=GeoIndexBenchmark
+ *
+ * ===== 한계 =====
+ *
+ * - 경도 ±180도(날짜변경선)를 넘는 검색은 고려하지 않음
+ * - 서버 한 대 기준 (여러 대면 각 서버가 자기 색인을 가짐, 다른 서버의 변경은 재시작 시 반영)
+ */
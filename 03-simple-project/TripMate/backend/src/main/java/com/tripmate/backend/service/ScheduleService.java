@@ -0,0 +1,266 @@
+package com.tripmate.backend.service;
+
+import com.tripmate.backend.dto.request.ScheduleCreateRequest;
+import com.tripmate.backend.dto.request.ScheduleReorderRequest;
+import com.tripmate.backend.dto.request.ScheduleUpdateRequest;
+import com.tripmate.backend.dto.response.ScheduleResponse;
+import com.tripmate.backend.entity.Schedule;
+import com.tripmate.backend.entity.Trip;
+import com.tripmate.backend.repository.ScheduleRepository;
+import com.tripmate.backend.repository.TripRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static com.tripmate.backend.service.TransactionHooks.afterCommit;
+
+/**
+ * 일정 서비스
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduleService {
+
+    private final ScheduleRepository scheduleRepository;
+    private final TripRepository tripRepository;
+    private final ScheduleLocationService scheduleLocationService;
+
+    /**
+     * 일정 추가 (해당 날짜의 맨 뒤에)
+     *
+     * @param tripId 여행 ID
+     * @param request 일정 생성 요청
+     * @param userId 로그인한 사용자 ID
+     * @return 생성된 일정 정보
+     */
+    @Transactional
+    public ScheduleResponse createSchedule(Long tripId, ScheduleCreateRequest request, Long userId) {
+        log.info("일정 생성 시도: tripId={}, title={}", tripId, request.getTitle());
+
+        // 1. 권한 체크 (내 여행만)
+        checkOwner(tripId, userId);
+
+        // 2. 여행 참조 + 마지막 순서 다음으로 (그 날짜 잠금 → 동시 추가/순서 변경과 같은 순서 번호 방지)
+        Trip trip = tripRepository.getReferenceById(tripId);
+        int orderIndex = lockDayAndNextOrder(tripId, request.getDate());
+
+        Schedule schedule = Schedule.builder()
+                .date(request.getDate())
+                .time(request.getTime())
+                .title(request.getTitle())
+                .location(request.getLocation())
+                .latitude(request.getLatitude())
+                .longitude(request.getLongitude())
+                .description(request.getDescription())
+                .category(request.getCategory())
+                .orderIndex(orderIndex)
+                .trip(trip)
+                .build();
+
+        // 3. 저장
+        Schedule saved = scheduleRepository.save(schedule);
+        log.info("일정 생성 완료: scheduleId={}", saved.getId());
+
+        // 4. 커밋 후 위치 색인 반영
+        ScheduleResponse response = ScheduleResponse.from(saved);
+        afterCommit(() -> scheduleLocationService.onScheduleSaved(response));
+        return response;
+    }
+
+    /**
+     * 여행 전체 일정표 조회 (날짜 → 순서)
+     *
+     * @param tripId 여행 ID
+     * @param userId 로그인한 사용자 ID
+     * @return 일정 목록
+     */
+    @Transactional(readOnly = true)
+    public List<ScheduleResponse> getItinerary(Long tripId, Long userId) {
+        log.info("일정표 조회: tripId={}, userId={}", tripId, userId);
+
+        // 내 여행이거나 공개 여행만 조회 가능
+        if (!tripRepository.isVisibleTo(tripId, userId)) {
+            throw new IllegalArgumentException("여행을 찾을 수 없거나 권한이 없습니다");
+        }
+
+        return scheduleRepository.findByTripIdOrderByDateAscOrderIndexAsc(tripId).stream()
+                .map(ScheduleResponse::from)
+                .toList();
+    }
+
+    /**
+     * 일정 수정
+     *
+     * 날짜가 바뀌면 새 날짜의 맨 뒤로 이동
+     *
+     * @param tripId 여행 ID
+     * @param scheduleId 일정 ID
+     * @param request 수정 요청
+     * @param userId 로그인한 사용자 ID
+     * @return 수정된 일정 정보
+     */
+    @Transactional
+    public ScheduleResponse updateSchedule(Long tripId, Long scheduleId,
+                                           ScheduleUpdateRequest request, Long userId) {
+        log.info("일정 수정 시도: tripId={}, scheduleId={}", tripId, scheduleId);
+
+        checkOwner(tripId, userId);
+        Schedule schedule = findSchedule(tripId, scheduleId);
+
+        // 날짜 변경 시 새 날짜의 마지막 순서로 (새 날짜 잠금)
+        if (!request.getDate().equals(schedule.getDate())) {
+            schedule.updateOrder(lockDayAndNextOrder(tripId, request.getDate()));
+        }
+
+        schedule.update(
+                request.getDate(),
+                request.getTime(),
+                request.getTitle(),
+                request.getLocation(),
+                request.getDescription(),
+                request.getCategory()
+        );
+        schedule.updateLocation(request.getLocation(), request.getLatitude(), request.getLongitude());
+
+        log.info("일정 수정 완료: scheduleId={}", scheduleId);
+
+        // 좌표가 바뀌었을 수 있으므로 커밋 후 위치 색인 반영
+        ScheduleResponse response = ScheduleResponse.from(schedule);
+        afterCommit(() -> scheduleLocationService.onScheduleSaved(response));
+        return response;
+    }
+
+    /**
+     * 일정 삭제
+     *
+     * @param tripId 여행 ID
+     * @param scheduleId 일정 ID
+     * @param userId 로그인한 사용자 ID
+     */
+    @Transactional
+    public void deleteSchedule(Long tripId, Long scheduleId, Long userId) {
+        log.info("일정 삭제 시도: tripId={}, scheduleId={}", tripId, scheduleId);
+
+        checkOwner(tripId, userId);
+        Schedule schedule = findSchedule(tripId, scheduleId);
+
+        scheduleRepository.delete(schedule);
+        log.info("일정 삭제 완료: scheduleId={}", scheduleId);
+
+        afterCommit(() -> scheduleLocationService.onScheduleDeleted(scheduleId));
+    }
+
+    /**
+     * 하루 일정 순서 일괄 변경 (드래그 앤 드롭)
+     *
+     * 그 날짜의 일정 ID를 새 순서대로 받아서 한 번에 적용합니다.
+     * 순서가 바뀐 일정만 UPDATE 되고, 커밋 시 JDBC batch 한 번으로 전송됨
+     *
+     * @param tripId 여행 ID
+     * @param request 새 순서 (그 날짜의 일정 ID 전체)
+     * @param userId 로그인한 사용자 ID
+     * @return 변경된 그 날짜의 일정 목록
+     * @throws IllegalArgumentException 그 날짜의 일정과 ID 목록이 일치하지 않을 때
+     */
+    @Transactional
+    public List<ScheduleResponse> reorderSchedules(Long tripId, ScheduleReorderRequest request, Long userId) {
+        LocalDate date = request.getDate();
+        List<Long> newOrder = request.getScheduleIds();
+        log.info("일정 순서 변경 시도: tripId={}, date={}, count={}", tripId, date, newOrder.size());
+
+        // 1. 권한 체크
+        checkOwner(tripId, userId);
+
+        // 2. 그 날짜 일정 한 번에 조회 + 잠금 (확인 후 커밋 전까지 일정 추가/이동이 끼어들지 못함)
+        List<Schedule> schedules = scheduleRepository.findForUpdate(tripId, date);
+        Map<Long, Schedule> byId = new HashMap<>();
+        for (Schedule schedule : schedules) {
+            byId.put(schedule.getId(), schedule);
+        }
+
+        // 3. 요청 ID 목록이 그 날짜 일정과 정확히 일치하는지 확인 (누락, 중복, 다른 날짜 일정 방지)
+        if (newOrder.size() != schedules.size()
+                || new HashSet<>(newOrder).size() != newOrder.size()
+                || !byId.keySet().containsAll(newOrder)) {
+            throw new IllegalArgumentException("해당 날짜의 일정 목록과 일치하지 않습니다");
+        }
+
+        // 4. 바뀐 것만 변경 (Dirty Checking → 커밋 시 batch UPDATE)
+        int changed = 0;
+        for (int i = 0; i < newOrder.size(); i++) {
+            Schedule schedule = byId.get(newOrder.get(i));
+            if (schedule.getOrderIndex() != i) {
+                schedule.updateOrder(i);
+                changed++;
+            }
+        }
+        log.info("일정 순서 변경 완료: tripId={}, date={}, changed={}", tripId, date, changed);
+
+        return newOrder.stream()
+                .map(byId::get)
+                .map(ScheduleResponse::from)
+                .toList();
+    }
+
+    /**
+     * 날짜의 일정을 잠그고 맨 뒤 순서 반환
+     *
+     * MAX(order_index)+1 을 잠금 없이 계산하면 동시에 추가된 일정이 같은 순서를 받음
+     * 일정이 없는 날짜도 (trip_id, date, order_index) 인덱스 범위 잠금(gap lock)으로 동시 추가가 대기
+     *
+     * @return 가장 큰 orderIndex + 1 (일정이 없으면 0)
+     */
+    private int lockDayAndNextOrder(Long tripId, LocalDate date) {
+        List<Schedule> day = scheduleRepository.findForUpdate(tripId, date);
+        return day.isEmpty() ? 0 : day.get(day.size() - 1).getOrderIndex() + 1;
+    }
+
+    /**
+     * 내 여행인지 확인
+     */
+    private void checkOwner(Long tripId, Long userId) {
+        if (!tripRepository.existsByIdAndOwnerId(tripId, userId)) {
+            throw new IllegalArgumentException("여행을 찾을 수 없거나 권한이 없습니다");
+        }
+    }
+
+    /**
+     * 여행에 속한 일정 조회
+     */
+    private Schedule findSchedule(Long tripId, Long scheduleId) {
+        return scheduleRepository.findByIdAndTripId(scheduleId, tripId)
+                .orElseThrow(() -> new IllegalArgumentException("일정을 찾을 수 없습니다"));
+    }
+}
+
+/*
+ * ===== 순서 변경을 한 번에 처리하는 이유 =====
+ *
+ * 단순 구현: 드래그할 때마다 PATCH /schedules/{id}/order 호출
+ * - 일정 하나를 맨 앞으로 옮기면 뒤의 일정 N개의 orderIndex가 모두 바뀜
+ * - API 호출 N번 + UPDATE N번
+ *
+ * 일괄 변경: PUT /trips/{tripId}/schedules/order
+ * - 드래그가 끝난 뒤 그 날짜의 새 순서를 한 번에 전송
+ * - SELECT ... FOR UPDATE 1번 (그 날짜 일정, 일정 추가와 순서가 섞이지 않도록 잠금) + 바뀐 행만 UPDATE
+ * - hibernate.jdbc.batch_size 설정으로 UPDATE들이 JDBC batch 하나로 전송
+ *
+ * ===== JDBC Batch =====
+ *
+ * batch 없음: UPDATE → 응답 대기 → UPDATE → 응답 대기 ... (왕복 N번)
+ * batch 있음: UPDATE N개를 모아서 한 번에 전송 (왕복 1번)
+ *
+ * application.yml:
+ *   hibernate.jdbc.batch_size: 50   → 50개씩 묶어서 전송
+ *   hibernate.order_updates: true   → 같은 엔티티 UPDATE끼리 모아서 batch 효율 증가
+ *
+ * 주의: MySQL은 rewriteBatchedStatements=true 여야 실제로 한 번에 전송됨
+ */
@@ -0,0 +1,100 @@
+package com.tripmate.backend.service;
+
+import com.tripmate.backend.repository.UserRepository;
+import com.tripmate.backend.security.EmailBloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 가입 이메일 필터
+ *
+ * 회원가입 폼은 입력할 때마다 /auth/check-email을 호출하는데,
+ * 대부분은 아직 가입되지 않은 이메일이므로 Bloom filter로 "확실히 없음"을 바로 응답합니다.
+ * "있을 수도 있음"일 때만 DB(existsByEmail)로 확인하고, 최종 판정은 users.email UNIQUE 제약이 합니다.
+ *
+ * 기동 후 users 테이블을 id 순으로 나눠 읽어 채우고, 그 전에는 항상 DB로 확인합니다.
+ */
+@Slf4j
+@Service
+public class SignupEmailFilter {
+
+    // 초기 로딩 시 한 번에 읽을 개수
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final UserRepository userRepository;
+    private final EmailBloomFilter filter;
+
+    // 초기 로딩이 끝나기 전에는 "없음"을 믿을 수 없음
+    private volatile boolean ready;
+
+    // 포화 경고는 한 번만
+    private final AtomicBoolean saturationWarned = new AtomicBoolean();
+
+    public SignupEmailFilter(
+            UserRepository userRepository,
+            @Value("${auth.email-filter.expected-users:1000000}") long expectedUsers,
+            @Value("${auth.email-filter.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.userRepository = userRepository;
+        this.filter = new EmailBloomFilter(expectedUsers, falsePositiveRate);
+    }
+
+    /**
+     * 서버 기동 후 가입된 이메일 전체로 필터 생성
+     *
+     * 로딩 중 가입한 이메일도 add()로 들어오므로 빠지는 이메일 없음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        Pageable chunk = PageRequest.of(0, LOAD_CHUNK_SIZE);
+
+        long lastId = 0L;
+        List<UserRepository.EmailRow> rows = userRepository.findByIdGreaterThanOrderByIdAsc(lastId, chunk);
+        while (!rows.isEmpty()) {
+            rows.forEach(row -> filter.put(row.getEmail()));
+            lastId = rows.get(rows.size() - 1).getId();
+            rows = userRepository.findByIdGreaterThanOrderByIdAsc(lastId, chunk);
+        }
+
+        ready = true;
+        log.info("가입 이메일 필터 생성 완료: {}건, {}KB, {}ms",
+                filter.insertions(), filter.sizeInBytes() / 1024, System.currentTimeMillis() - start);
+        warnIfSaturated();
+    }
+
+    /**
+     * 가입되어 있을 수도 있는 이메일인지
+     *
+     * @param email 이메일
+     * @return false면 확실히 미가입 (DB 조회 불필요), true면 DB 확인 필요
+     */
+    public boolean mightExist(String email) {
+        return !ready || filter.mightContain(email);
+    }
+
+    /**
+     * 가입 완료된 이메일 추가 (저장 후 호출)
+     *
+     * @param email 이메일
+     */
+    public void add(String email) {
+        filter.put(email);
+        warnIfSaturated();
+    }
+
+    private void warnIfSaturated() {
+        if (filter.isSaturated() && saturationWarned.compareAndSet(false, true)) {
+            log.warn("가입 이메일 필터가 예상 개수를 넘었습니다 (오탐 증가): {}건, auth.email-filter.expected-users를 늘려주세요",
+                    filter.insertions());
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.tripmate.backend.service;
+
+import com.tripmate.backend.analytics.TripFacts;
+import com.tripmate.backend.analytics.TripStats;
+import com.tripmate.backend.dto.response.TripAnalyticsResponse;
+import com.tripmate.backend.dto.response.TripResponse;
+import com.tripmate.backend.repository.TripRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 여행 통계 서비스 (예산, 월별 여행 수, 인기 여행지, 평균 여행 일수)
+ *
+ * 요청마다 GROUP BY로 전체 여행을 집계하지 않고,
+ * 여행이 생성/수정/삭제될 때(커밋 후) 누적값을 바로 고쳐 둡니다.
+ *
+ * - 전체 통계 1개 (공개 여행만) + 사용자별 통계 (비공개 포함)
+ * - 수정 시 이전 값을 빼야 하므로 여행별 정보(TripFacts)를 함께 보관
+ * - 기동 후 trips 테이블을 id 순으로 나눠 읽어 채움
+ *
+ * 읽기는 동시에, 쓰기는 하나씩 (ReadWriteLock)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TripAnalyticsService {
+
+    // 인기 여행지 최대 개수
+    public static final int MAX_TOP_DESTINATIONS = 50;
+
+    // 초기 로딩 시 한 번에 읽을 개수
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final TripRepository tripRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // tripId → 통계에 반영된 여행 정보
+    private final Map<Long, TripFacts> trips = new HashMap<>();
+
+    private final TripStats global = new TripStats();
+    private final Map<Long, TripStats> byOwner = new HashMap<>();
+
+    // 초기 로딩 중 삭제된 여행 (스캔이 삭제 전에 읽은 행을 다시 넣지 않도록), 로딩 중이 아니면 null
+    private Set<Long> deletedDuringLoad;
+
+    /**
+     * 서버 기동 후 전체 여행으로 통계 생성
+     *
+     * 로딩 중 커밋된 변경은 apply/remove로 먼저 들어올 수 있으므로
+     * 이미 반영된 여행은 스캔 결과로 덮어쓰지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        Pageable chunk = PageRequest.of(0, LOAD_CHUNK_SIZE);
+
+        write(() -> deletedDuringLoad = new HashSet<>());
+        try {
+            long lastId = 0L;
+            List<TripFacts> rows = tripRepository.findTripFactsAfter(lastId, chunk);
+            while (!rows.isEmpty()) {
+                List<TripFacts> batch = rows;
+                write(() -> batch.forEach(row -> {
+                    if (!trips.containsKey(row.getTripId()) && !deletedDuringLoad.contains(row.getTripId())) {
+                        addInternal(row);
+                    }
+                }));
+                lastId = rows.get(rows.size() - 1).getTripId();
+                rows = tripRepository.findTripFactsAfter(lastId, chunk);
+            }
+        } finally {
+            write(() -> deletedDuringLoad = null);
+        }
+
+        write(() -> log.info("여행 통계 생성 완료: {}건, 사용자 {}명, {}ms",
+                trips.size(), byOwner.size(), System.currentTimeMillis() - start));
+    }
+
+    /**
+     * 전체 통계 (공개 여행만)
+     *
+     * @param top 인기 여행지 개수
+     * @return 통계
+     */
+    public TripAnalyticsResponse getGlobalStats(int top) {
+        int limit = normalizeTop(top);
+        lock.readLock().lock();
+        try {
+            return global.toResponse(limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자 한 명의 통계
+     *
+     * @param userId 사용자 ID
+     * @param top 인기 여행지 개수
+     * @return 통계 (여행이 없으면 0)
+     */
+    public TripAnalyticsResponse getUserStats(Long userId, int top) {
+        int limit = normalizeTop(top);
+        lock.readLock().lock();
+        try {
+            return byOwner.getOrDefault(userId, new TripStats()).toResponse(limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 여행 생성/수정/공개 여부 변경 반영 (커밋 후 호출)
+     *
+     * @param trip 변경된 여행
+     */
+    public void apply(TripResponse trip) {
+        TripFacts facts = TripFacts.from(trip);
+        write(() -> {
+            removeInternal(facts.getTripId());
+            addInternal(facts);
+        });
+    }
+
+    /**
+     * 여행 삭제 반영 (커밋 후 호출)
+     *
+     * @param tripId 삭제된 여행 ID
+     */
+    public void remove(Long tripId) {
+        write(() -> {
+            removeInternal(tripId);
+            if (deletedDuringLoad != null) {
+                deletedDuringLoad.add(tripId);
+            }
+        });
+    }
+
+    private void addInternal(TripFacts facts) {
+        trips.put(facts.getTripId(), facts);
+        if (facts.isGlobal()) {
+            global.add(facts);
+        }
+        byOwner.computeIfAbsent(facts.getOwnerId(), id -> new TripStats()).add(facts);
+    }
+
+    private void removeInternal(Long tripId) {
+        TripFacts old = trips.remove(tripId);
+        if (old == null) {
+            return;
+        }
+        if (old.isGlobal()) {
+            global.remove(old);
+        }
+        TripStats owner = byOwner.get(old.getOwnerId());
+        if (owner != null) {
+            owner.remove(old);
+            if (owner.isEmpty()) {
+                byOwner.remove(old.getOwnerId());
+            }
+        }
+    }
+
+    private void write(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static int normalizeTop(int top) {
+        return Math.max(1, Math.min(top, MAX_TOP_DESTINATIONS));
+    }
+}
@@ -0,0 +1,119 @@
+package com.tripmate.backend.service;
+
+import com.tripmate.backend.dto.response.TripResponse;
+import com.tripmate.backend.dto.response.TripSearchResponse;
+import com.tripmate.backend.repository.TripRepository;
+import com.tripmate.backend.search.TripSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 여행 검색 서비스
+ *
+ * 공개 여행의 여행지/제목을 메모리 색인(TripSearchIndex)으로 검색합니다.
+ * DB의 LIKE '%검색어%' 풀스캔 대신 색인에서 바로 결과를 찾음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TripSearchService {
+
+    // 검색 페이지 크기 상한
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // 자동완성 최대 개수
+    public static final int MAX_SUGGESTIONS = 20;
+
+    // 초기 로딩 시 한 번에 읽을 개수
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final TripRepository tripRepository;
+
+    private final TripSearchIndex index = new TripSearchIndex();
+
+    /**
+     * 서버 기동 후 공개 여행 전체로 색인 생성
+     *
+     * 커서 페이지네이션으로 나눠 읽어서 한 번에 전체를 메모리에 올리지 않음
+     * 로딩 중 커밋된 변경은 apply/remove로 먼저 들어올 수 있으므로
+     * 이미 반영된 여행은 스캔 결과로 덮어쓰지 않음 (전체 교체 없음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        Pageable chunk = PageRequest.of(0, LOAD_CHUNK_SIZE);
+
+        index.beginLoad();
+        try {
+            List<TripResponse> rows = tripRepository.findPublicTripPage(chunk);
+            while (!rows.isEmpty()) {
+                index.loadBatch(rows);
+                TripResponse last = rows.get(rows.size() - 1);
+                rows = tripRepository.findPublicTripPageAfter(last.getCreatedAt(), last.getId(), chunk);
+            }
+        } finally {
+            index.endLoad();
+        }
+
+        log.info("여행 검색 색인 생성 완료: {}건, {}ms", index.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 여행 검색 (여행지 + 제목)
+     *
+     * @param query 검색어
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기
+     * @return 검색 결과
+     */
+    public TripSearchResponse search(String query, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+
+        TripSearchIndex.Result result = index.search(query, pageNumber, pageSize);
+        log.debug("여행 검색: query={}, total={}", query, result.total());
+
+        return TripSearchResponse.builder()
+                .trips(result.trips())
+                .page(pageNumber)
+                .size(pageSize)
+                .total(result.total())
+                .build();
+    }
+
+    /**
+     * 여행지 자동완성
+     *
+     * @param prefix 입력 중인 문자열
+     * @param limit 최대 개수
+     * @return 여행지 목록 (여행 수 많은 순)
+     */
+    public List<String> autocomplete(String prefix, int limit) {
+        return index.autocomplete(prefix, Math.max(1, Math.min(limit, MAX_SUGGESTIONS)));
+    }
+
+    /**
+     * 여행 변경 반영 (커밋 후 호출)
+     *
+     * @param trip 변경된 여행 (비공개면 색인에서 제거)
+     */
+    public void apply(TripResponse trip) {
+        index.put(trip);
+    }
+
+    /**
+     * 여행 삭제 반영 (커밋 후 호출)
+     *
+     * @param tripId 삭제된 여행 ID
+     */
+    public void remove(Long tripId) {
+        index.remove(tripId);
+    }
+}
@@ -1,19 +1,26 @@
 package com.tripmate.backend.service;
 
 import com.tripmate.backend.dto.request.TripCreateRequest;
+import com.tripmate.backend.dto.request.TripCursor;
 import com.tripmate.backend.dto.request.TripUpdateRequest;
+import com.tripmate.backend.dto.response.TripDetailResponse;
+import com.tripmate.backend.dto.response.TripPageResponse;
 import com.tripmate.backend.dto.response.TripResponse;
 import com.tripmate.backend.entity.Trip;
 import com.tripmate.backend.entity.User;
+import com.tripmate.backend.repository.ScheduleRepository;
 import com.tripmate.backend.repository.TripRepository;
 import com.tripmate.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
+
+import static com.tripmate.backend.service.TransactionHooks.afterCommit;
 
 /**
  * 여행 서비스
@@ -23,23 +30,32 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TripService {
 
+    // 목록 페이지 크기 상한
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final TripRepository tripRepository;
     private final UserRepository userRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final PublicTripFeed publicTripFeed;
+    private final TripSearchService tripSearchService;
+    private final ScheduleLocationService scheduleLocationService;
+    private final TripAnalyticsService tripAnalyticsService;
 
     /**
      * 여행 생성
      *
      * @param request 여행 생성 요청
-     * @param userEmail 로그인한 사용자 이메일
+     * @param userId 로그인한 사용자 ID
      * @return 생성된 여행 정보
      */
     @Transactional
-    public TripResponse createTrip(TripCreateRequest request, String userEmail) {
-        log.info("여행 생성 시도: title={}, user={}", request.getTitle(), userEmail);
+    public TripResponse createTrip(TripCreateRequest request, Long userId) {
+        log.info("여행 생성 시도: title={}, userId={}", request.getTitle(), userId);
 
-        // 1. 사용자 조회
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+        // 1. 사용자 참조 (프록시만 생성, INSERT 시에는 FK 값만 사용)
+        //    응답에 소유자 이름/이메일이 들어가므로 4번에서 프록시가 초기화되며 users PK 조회 1번은 발생
+        //    (findById로 미리 읽어도 같은 1번, 사용자 존재 확인은 FK 제약이 대신함)
+        User user = userRepository.getReferenceById(userId);
 
         // 2. Trip 엔티티 생성
         Trip trip = Trip.builder()
@@ -57,78 +73,105 @@ public class TripService {
         Trip savedTrip = tripRepository.save(trip);
         log.info("여행 생성 완료: tripId={}", savedTrip.getId());
 
-        // 4. Response 변환
-        return TripResponse.from(savedTrip);
+        // 4. Response 변환 (owner 이름/이메일 접근 → 프록시 초기화, users SELECT)
+        TripResponse response = TripResponse.from(savedTrip);
+
+        // 5. 커밋 후 통계 반영, 공개 여행이면 피드, 검색 색인에도 추가
+        afterCommit(() -> {
+            tripAnalyticsService.apply(response);
+            if (response.getIsPublic()) {
+                publishChange(response);
+            }
+        });
+        return response;
     }
 
     /**
-     * 내 여행 목록 조회
+     * 내 여행 목록 조회 (커서 페이지네이션)
      *
-     * @param userEmail 로그인한 사용자 이메일
-     * @return 여행 목록
+     * @param userId 로그인한 사용자 ID
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return 여행 목록 페이지
      */
     @Transactional(readOnly = true)
-    public List<TripResponse> getMyTrips(String userEmail) {
-        log.info("내 여행 목록 조회: user={}", userEmail);
+    public TripPageResponse getMyTrips(Long userId, String cursor, int size) {
+        log.info("내 여행 목록 조회: userId={}, cursor={}", userId, cursor);
 
-        // 사용자 조회
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+        // 1. 커서 해석 + 한 개 더 조회 (다음 페이지 확인용)
+        TripCursor after = TripCursor.decode(cursor);
+        int pageSize = normalizeSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
 
-        // 여행 목록 조회 (최신순)
-        List<Trip> trips = tripRepository.findByOwnerOrderByCreatedAtDesc(user);
+        // 2. 필요한 컬럼만 DTO로 조회 (엔티티 로딩 없음)
+        List<TripResponse> rows = (after == null)
+                ? tripRepository.findMyTripPage(userId, limit)
+                : tripRepository.findMyTripPageAfter(userId, after.getCreatedAt(), after.getId(), limit);
 
-        // Response 변환
-        return trips.stream()
-                .map(TripResponse::from)
-                .collect(Collectors.toList());
+        return TripPageResponse.of(rows, pageSize);
     }
 
     /**
      * 여행 상세 조회
      *
      * @param tripId 여행 ID
-     * @param userEmail 로그인한 사용자 이메일
+     * @param userId 로그인한 사용자 ID
      * @return 여행 상세 정보
      */
     @Transactional(readOnly = true)
-    public TripResponse getTripById(Long tripId, String userEmail) {
-        log.info("여행 상세 조회: tripId={}, user={}", tripId, userEmail);
-
-        // 사용자 조회
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+    public TripResponse getTripById(Long tripId, Long userId) {
+        log.info("여행 상세 조회: tripId={}, userId={}", tripId, userId);
 
         // 여행 조회 (owner 정보 포함)
         Trip trip = tripRepository.findByIdWithOwner(tripId)
                 .orElseThrow(() -> new IllegalArgumentException("여행을 찾을 수 없습니다"));
 
         // 권한 체크: 내 여행이거나 공개된 여행만 조회 가능
-        if (!trip.isOwner(user.getId()) && !trip.getIsPublic()) {
+        if (!trip.isOwner(userId) && !trip.getIsPublic()) {
             throw new IllegalArgumentException("접근 권한이 없습니다");
         }
 
         return TripResponse.from(trip);
     }
 
+    /**
+     * 여행 상세 + 전체 일정 조회
+     *
+     * 여행, 소유자, 일정을 한 번의 쿼리로 읽고 Lazy 로딩 없이 변환합니다.
+     *
+     * @param tripId 여행 ID
+     * @param userId 로그인한 사용자 ID
+     * @return 여행 상세 (일정 포함)
+     */
+    @Transactional(readOnly = true)
+    public TripDetailResponse getTripDetail(Long tripId, Long userId) {
+        log.info("여행 상세(일정 포함) 조회: tripId={}, userId={}", tripId, userId);
+
+        Trip trip = tripRepository.findDetailById(tripId)
+                .orElseThrow(() -> new IllegalArgumentException("여행을 찾을 수 없습니다"));
+
+        // 권한 체크: 내 여행이거나 공개된 여행만 조회 가능
+        if (!trip.isOwner(userId) && !trip.getIsPublic()) {
+            throw new IllegalArgumentException("접근 권한이 없습니다");
+        }
+
+        return TripDetailResponse.from(trip);
+    }
+
     /**
      * 여행 수정
      *
      * @param tripId 여행 ID
      * @param request 수정 요청
-     * @param userEmail 로그인한 사용자 이메일
+     * @param userId 로그인한 사용자 ID
      * @return 수정된 여행 정보
      */
     @Transactional
-    public TripResponse updateTrip(Long tripId, TripUpdateRequest request, String userEmail) {
-        log.info("여행 수정 시도: tripId={}, user={}", tripId, userEmail);
-
-        // 사용자 조회
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+    public TripResponse updateTrip(Long tripId, TripUpdateRequest request, Long userId) {
+        log.info("여행 수정 시도: tripId={}, userId={}", tripId, userId);
 
         // 여행 조회 (권한 체크 포함)
-        Trip trip = tripRepository.findByIdAndOwner(tripId, user)
+        Trip trip = tripRepository.findByIdAndOwnerIdWithOwner(tripId, userId)
                 .orElseThrow(() -> new IllegalArgumentException("여행을 찾을 수 없거나 권한이 없습니다"));
 
         // 수정
@@ -143,6 +186,14 @@ public class TripService {
 
         log.info("여행 수정 완료: tripId={}", tripId);
 
+        // 커밋 후 통계, 피드, 검색 색인 반영 (updatedAt은 flush 시점에 채워지므로 커밋 후 변환)
+        afterCommit(() -> {
+            TripResponse updated = TripResponse.from(trip);
+            tripAnalyticsService.apply(updated);
+            if (updated.getIsPublic()) {
+                publishChange(updated);
+            }
+        });
         return TripResponse.from(trip);
     }
 
@@ -150,39 +201,114 @@ public class TripService {
      * 여행 삭제
      *
      * @param tripId 여행 ID
-     * @param userEmail 로그인한 사용자 이메일
+     * @param userId 로그인한 사용자 ID
      */
     @Transactional
-    public void deleteTrip(Long tripId, String userEmail) {
-        log.info("여행 삭제 시도: tripId={}, user={}", tripId, userEmail);
-
-        // 사용자 조회
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+    public void deleteTrip(Long tripId, Long userId) {
+        log.info("여행 삭제 시도: tripId={}, userId={}", tripId, userId);
 
         // 여행 조회 (권한 체크 포함)
-        Trip trip = tripRepository.findByIdAndOwner(tripId, user)
+        Trip trip = tripRepository.findByIdAndOwnerIdWithOwner(tripId, userId)
                 .orElseThrow(() -> new IllegalArgumentException("여행을 찾을 수 없거나 권한이 없습니다"));
 
-        // 삭제
+        // 삭제 (일정 먼저 한 번에 삭제 → FK 제약)
+        scheduleRepository.deleteAllByTripId(tripId);
         tripRepository.delete(trip);
         log.info("여행 삭제 완료: tripId={}", tripId);
+
+        boolean wasPublic = trip.getIsPublic();
+        afterCommit(() -> {
+            if (wasPublic) {
+                publicTripFeed.remove(tripId);
+                tripSearchService.remove(tripId);
+            }
+            scheduleLocationService.onTripDeleted(tripId);
+            tripAnalyticsService.remove(tripId);
+        });
+    }
+
+    /**
+     * 여행 공개/비공개 전환
+     *
+     * @param tripId 여행 ID
+     * @param userId 로그인한 사용자 ID
+     * @return 변경된 여행 정보
+     */
+    @Transactional
+    public TripResponse togglePublic(Long tripId, Long userId) {
+        log.info("여행 공개 여부 변경 시도: tripId={}, userId={}", tripId, userId);
+
+        // 여행 조회 (권한 체크 포함)
+        Trip trip = tripRepository.findByIdAndOwnerIdWithOwner(tripId, userId)
+                .orElseThrow(() -> new IllegalArgumentException("여행을 찾을 수 없거나 권한이 없습니다"));
+
+        trip.togglePublic();
+        log.info("여행 공개 여부 변경 완료: tripId={}, isPublic={}", tripId, trip.getIsPublic());
+
+        // 공개 → 피드/색인/전체 통계 추가, 비공개 → 피드/색인/전체 통계에서 제거
+        afterCommit(() -> {
+            TripResponse changed = TripResponse.from(trip);
+            tripAnalyticsService.apply(changed);
+            publishChange(changed);
+        });
+        return TripResponse.from(trip);
     }
 
     /**
-     * 공개 여행 목록 조회
+     * 공개 여행 목록 조회 (커서 페이지네이션)
+     *
+     * 여행이 몇 개든 한 페이지 분량만 조회합니다.
      *
-     * @return 공개 여행 목록
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return 공개 여행 목록 페이지
      */
     @Transactional(readOnly = true)
-    public List<TripResponse> getPublicTrips() {
-        log.info("공개 여행 목록 조회");
+    public TripPageResponse getPublicTrips(String cursor, int size) {
+        log.info("공개 여행 목록 조회: cursor={}", cursor);
+
+        TripCursor after = TripCursor.decode(cursor);
+        int pageSize = normalizeSize(size);
+
+        // 1. 메모리 피드에서 먼저 조회
+        List<TripResponse> rows = publicTripFeed.page(after, pageSize + 1);
+
+        // 2. 피드 범위를 벗어난 오래된 페이지만 DB 조회
+        if (rows == null) {
+            Pageable limit = PageRequest.of(0, pageSize + 1);
+            rows = (after == null)
+                    ? tripRepository.findPublicTripPage(limit)
+                    : tripRepository.findPublicTripPageAfter(after.getCreatedAt(), after.getId(), limit);
+        }
+
+        return TripPageResponse.of(rows, pageSize);
+    }
+
+    /**
+     * 공개 여행 피드의 현재 ETag
+     *
+     * 공개 여행이 바뀌지 않았다면 같은 값 → 컨트롤러에서 304 응답
+     *
+     * @return ETag 값
+     */
+    public String getPublicFeedETag() {
+        return publicTripFeed.currentETag();
+    }
 
-        List<Trip> trips = tripRepository.findByIsPublicTrueOrderByCreatedAtDesc();
+    /**
+     * 공개 여행 변경을 피드, 검색 색인, 일정 위치 색인 권한 정보에 반영
+     */
+    private void publishChange(TripResponse trip) {
+        publicTripFeed.apply(trip);
+        tripSearchService.apply(trip);
+        scheduleLocationService.onTripChanged(trip.getId(), trip.getOwnerId(), trip.getIsPublic());
+    }
 
-        return trips.stream()
-                .map(TripResponse::from)
-                .collect(Collectors.toList());
+    /**
+     * 페이지 크기 보정 (1 ~ MAX_PAGE_SIZE)
+     */
+    private int normalizeSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
     }
 }
 
@@ -201,20 +327,35 @@ public class TripService {
  *
  * ===== 권한 체크 패턴 =====
  *
- * 1. findByIdAndOwner() 사용:
- *    Trip trip = tripRepository.findByIdAndOwner(tripId, user)
+ * 1. findByIdAndOwnerIdWithOwner() 사용:
+ *    Trip trip = tripRepository.findByIdAndOwnerIdWithOwner(tripId, userId)
  *        .orElseThrow(() -> new IllegalArgumentException("권한 없음"));
  *
  *    장점: 한 번의 쿼리로 조회 + 권한 체크
  *
+ *    userId는 JWT에서 꺼낸 UserPrincipal의 id (@CurrentUser로 주입)
+ *    → 예전처럼 매번 findByEmail()로 사용자를 조회할 필요 없음
+ *
  * 2. isOwner() 메서드 사용:
  *    Trip trip = tripRepository.findById(tripId)...
- *    if (!trip.isOwner(user.getId())) {
+ *    if (!trip.isOwner(userId)) {
  *        throw new IllegalArgumentException("권한 없음");
  *    }
  *
  *    장점: 명시적, 가독성 좋음
  *
+ * ===== 목록 조회 전략 =====
+ *
+ * 목록은 엔티티 대신 TripResponse를 JPQL 생성자 표현식으로 바로 조회
+ * - 영속성 컨텍스트에 Trip을 올리지 않음 (스냅샷, 더티 체킹 비용 없음)
+ * - owner 이름/이메일을 같은 쿼리에서 JOIN → Lazy 로딩 N+1 없음
+ * - (createdAt, id) 커서로 페이지 단위 조회 → 전체 개수와 무관
+ *
+ * 공개 피드는 한 번 더 나아가 PublicTripFeed(메모리)에서 응답
+ * - 최신 N개는 DB 조회 없이 응답, 그보다 오래된 페이지만 DB 조회
+ * - 생성/수정/삭제/공개 전환은 afterCommit()으로 커밋된 뒤에만 피드에 반영
+ * - 피드가 바뀔 때마다 ETag가 바뀜 → 변경 없으면 304 Not Modified
+ *
  * ===== Stream API 활용 =====
  *
  * List<Trip> → List<TripResponse> 변환:
@@ -0,0 +1,46 @@
+package com.tripmate.backend.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * QueryMetricsController 권한 테스트
+ *
+ * 쿼리 모양(스키마)이 노출되고 DELETE는 지표를 지우므로 관리자만 접근 가능해야 함
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class QueryMetricsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("일반 사용자는 SQL 메트릭 조회/초기화 불가")
+    void userIsForbidden() throws Exception {
+        mockMvc.perform(get("/metrics/queries"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/metrics/queries"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = {"USER", "ADMIN"})
+    @DisplayName("관리자는 SQL 메트릭 조회/초기화 가능")
+    void adminIsAllowed() throws Exception {
+        mockMvc.perform(get("/metrics/queries"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/metrics/queries"))
+                .andExpect(status().isNoContent());
+    }
+}
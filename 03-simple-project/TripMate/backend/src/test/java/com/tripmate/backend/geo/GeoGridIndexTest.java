@@ -0,0 +1,114 @@
+package com.tripmate.backend.geo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * GeoGridIndex 테스트
+ *
+ * k개 최근접 검색이 필요한 겹(ring)까지만 보고 멈추는지,
+ * 멈추더라도 더 바깥 칸의 더 가까운 점을 놓치지 않는지 확인
+ */
+class GeoGridIndexTest {
+
+    private static ScheduleLocation location(long id, double lat, double lon) {
+        return new ScheduleLocation(id, 1L, "일정" + id, "장소" + id, lat, lon);
+    }
+
+    private static List<Long> ids(List<GeoGridIndex.Hit> hits) {
+        return hits.stream().map(hit -> hit.location().getScheduleId()).toList();
+    }
+
+    @Test
+    @DisplayName("k개를 찾으면 더 바깥 겹은 확인하지 않음")
+    void nearestStopsAfterEnoughRings() {
+        // Given: 중심 근처 3개 + 약 33km 떨어진 1개 (0.05도 칸 기준 6겹 밖)
+        GeoGridIndex index = new GeoGridIndex(0.05);
+        index.put(location(1, 37.511, 127.011));
+        index.put(location(2, 37.512, 127.009));
+        index.put(location(3, 37.508, 127.012));
+        index.put(location(4, 37.81, 127.01));
+
+        AtomicInteger tested = new AtomicInteger();
+
+        // When: 가장 가까운 3개
+        List<GeoGridIndex.Hit> hits = index.nearest(37.51, 127.01, 3, 500, loc -> {
+            tested.incrementAndGet();
+            return true;
+        });
+
+        // Then: 근처 3개만, 먼 점은 조건 검사조차 하지 않음
+        assertThat(ids(hits)).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(tested.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("같은 칸의 점보다 옆 칸의 더 가까운 점을 먼저 반환")
+    void nearestChecksNextRingBeforeStopping() {
+        // Given: 1도 칸, 중심은 칸 왼쪽 아래 모서리 근처
+        GeoGridIndex index = new GeoGridIndex(1.0);
+        index.put(location(1, 0.1, 0.95));   // 같은 칸, 약 94km
+        index.put(location(2, -0.05, 0.1));  // 아래 칸, 약 17km
+
+        // When
+        List<GeoGridIndex.Hit> hits = index.nearest(0.1, 0.1, 1, 500, loc -> true);
+
+        // Then
+        assertThat(ids(hits)).containsExactly(2L);
+        assertThat(hits.get(0).distanceKm()).isLessThan(20);
+    }
+
+    @Test
+    @DisplayName("k개보다 적으면 최대 반경까지 보고 멈춤")
+    void nearestStopsAtMaxRadius() {
+        // Given: 반경 안 1개, 반경 밖 1개
+        GeoGridIndex index = new GeoGridIndex(0.05);
+        index.put(location(1, 37.52, 127.02));
+        index.put(location(2, 38.5, 127.0));   // 약 110km
+
+        // When: 10개를 원하지만 50km 이내만
+        List<GeoGridIndex.Hit> hits = index.nearest(37.51, 127.01, 10, 50, loc -> true);
+
+        // Then: 반경 안의 1개만 반환하고 종료
+        assertThat(ids(hits)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("결과는 가까운 순으로 정렬")
+    void nearestSortedByDistance() {
+        // Given
+        GeoGridIndex index = new GeoGridIndex(0.05);
+        index.put(location(1, 37.60, 127.01));
+        index.put(location(2, 37.52, 127.01));
+        index.put(location(3, 37.55, 127.01));
+
+        // When
+        List<GeoGridIndex.Hit> hits = index.nearest(37.51, 127.01, 3, 500, loc -> true);
+
+        // Then
+        assertThat(ids(hits)).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("극지방/NaN 좌표에서도 확인하는 칸 수가 제한됨")
+    void searchNearPoleIsBounded() {
+        // Given: 극지방 근처 점 1개 (경도 칸이 0.1km 정도로 좁아지는 위도)
+        GeoGridIndex index = new GeoGridIndex(0.05);
+        index.put(location(1, 89.9, 10.0));
+
+        // When & Then: 최대 반경까지 돌아도 금방 끝남 (칸 수를 경도 기준으로 세면 수억 번 조회)
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            index.nearest(89.9, 0.0, 5, 500, loc -> true);
+            index.nearest(Double.NaN, 0.0, 5, 500, loc -> true);
+            index.within(89.9, 0.0, 500, loc -> true, 10);
+        });
+        assertThat(ids(index.within(89.9, 0.0, 500, loc -> true, 10))).containsExactly(1L);
+    }
+}
@@ -0,0 +1,132 @@
+package com.tripmate.backend.repository;
+
+import com.tripmate.backend.dto.response.ScheduleResponse;
+import com.tripmate.backend.dto.response.TripDetailResponse;
+import com.tripmate.backend.entity.Schedule;
+import com.tripmate.backend.entity.Trip;
+import com.tripmate.backend.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * TripRepository 테스트
+ *
+ * 여행 상세 조회가 Lazy 로딩 없이 한 번의 쿼리로 끝나는지
+ * Hibernate Statistics로 실행된 SQL 수를 세어 확인합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TripRepositoryTest {
+
+    @Autowired
+    private TripRepository tripRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("여행 상세 조회 시 owner와 일정을 쿼리 1번으로 가져온다")
+    void findDetailByIdUsesSingleQuery() {
+        // Given: 여행 1개 + 이틀에 걸친 일정 3개
+        Trip trip = saveTripWithSchedules();
+        em.flush();
+        em.clear();  // 1차 캐시를 비워 실제로 DB에서 읽도록
+        statistics.clear();
+
+        // When: 상세 조회 후 DTO로 변환
+        Optional<Trip> found = tripRepository.findDetailById(trip.getId());
+        TripDetailResponse detail = TripDetailResponse.from(found.orElseThrow());
+
+        // Then: 변환까지 포함해 SQL은 1번만 실행
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(Hibernate.isInitialized(found.get().getOwner())).isTrue();
+        assertThat(Hibernate.isInitialized(found.get().getSchedules())).isTrue();
+
+        assertThat(detail.getTrip().getOwnerEmail()).isEqualTo("detail@example.com");
+        assertThat(detail.getSchedules())
+                .extracting(ScheduleResponse::getTitle)
+                .containsExactly("공항 도착", "성산일출봉", "우도");  // 날짜 → 순서
+    }
+
+    @Test
+    @DisplayName("일정이 없는 여행도 상세 조회된다")
+    void findDetailByIdWithoutSchedules() {
+        // Given: 일정 없는 여행
+        User owner = em.persist(User.builder()
+                .email("empty@example.com")
+                .password("password123")
+                .name("빈여행유저")
+                .build());
+        Trip trip = em.persist(Trip.builder()
+                .title("계획 중")
+                .destination("부산")
+                .startDate(LocalDate.of(2025, 5, 1))
+                .endDate(LocalDate.of(2025, 5, 2))
+                .owner(owner)
+                .build());
+        em.flush();
+        em.clear();
+        statistics.clear();
+
+        // When
+        TripDetailResponse detail = TripDetailResponse.from(
+                tripRepository.findDetailById(trip.getId()).orElseThrow());
+
+        // Then: LEFT JOIN이므로 여행은 조회되고 일정은 빈 목록
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(detail.getTrip().getTitle()).isEqualTo("계획 중");
+        assertThat(detail.getSchedules()).isEmpty();
+    }
+
+    private Trip saveTripWithSchedules() {
+        User owner = em.persist(User.builder()
+                .email("detail@example.com")
+                .password("password123")
+                .name("상세유저")
+                .build());
+        Trip trip = em.persist(Trip.builder()
+                .title("제주 여행")
+                .destination("제주")
+                .startDate(LocalDate.of(2025, 4, 1))
+                .endDate(LocalDate.of(2025, 4, 2))
+                .owner(owner)
+                .build());
+
+        // 저장 순서와 조회 순서가 다르도록 일부러 섞어서 저장
+        em.persist(schedule(trip, LocalDate.of(2025, 4, 2), 0, "우도"));
+        em.persist(schedule(trip, LocalDate.of(2025, 4, 1), 1, "성산일출봉"));
+        em.persist(schedule(trip, LocalDate.of(2025, 4, 1), 0, "공항 도착"));
+        return trip;
+    }
+
+    private Schedule schedule(Trip trip, LocalDate date, int orderIndex, String title) {
+        return Schedule.builder()
+                .trip(trip)
+                .date(date)
+                .orderIndex(orderIndex)
+                .title(title)
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.tripmate.backend.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * AdminAccounts 테스트
+ */
+class AdminAccountsTest {
+
+    @Test
+    @DisplayName("설정된 이메일만 ROLE_ADMIN (대소문자/공백 무시)")
+    void adminRoleOnlyForConfiguredEmails() {
+        // Given
+        AdminAccounts accounts = new AdminAccounts(List.of(" Admin@TripMate.dev ", ""));
+
+        // When & Then
+        assertThat(accounts.rolesOf("admin@tripmate.dev"))
+                .containsExactly(UserPrincipal.DEFAULT_ROLE, AdminAccounts.ADMIN_ROLE);
+        assertThat(accounts.rolesOf("user@tripmate.dev"))
+                .containsExactly(UserPrincipal.DEFAULT_ROLE);
+        assertThat(accounts.rolesOf(null))
+                .containsExactly(UserPrincipal.DEFAULT_ROLE);
+    }
+}
@@ -0,0 +1,87 @@
+package com.tripmate.backend.service;
+
+import com.tripmate.backend.dto.request.LoginRequest;
+import com.tripmate.backend.dto.request.SignupRequest;
+import com.tripmate.backend.dto.response.AuthResponse;
+import com.tripmate.backend.entity.User;
+import com.tripmate.backend.repository.UserRepository;
+import com.tripmate.backend.security.JwtTokenProvider;
+import com.tripmate.backend.security.RevokedUserRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.DisabledException;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * AuthService 테스트
+ *
+ * 비활성화는 커밋 후에 토큰을 무효화하므로 테스트 전체를 트랜잭션으로 감싸지 않음
+ */
+@SpringBootTest
+class AuthServiceTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private RevokedUserRegistry revokedUserRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("계정 비활성화 시 이미 발급된 토큰 거부")
+    void deactivateRevokesIssuedToken() {
+        // Given: 가입 후 발급받은 토큰이 유효함
+        AuthResponse signup = authService.signup(SignupRequest.builder()
+                .email("deactivate@example.com")
+                .password("password123")
+                .name("탈퇴유저")
+                .build());
+        String token = signup.getToken();
+        assertThat(jwtTokenProvider.getAuthentication(token).isAuthenticated()).isTrue();
+
+        // When: 계정 비활성화
+        authService.deactivate(signup.getUser().getId());
+
+        // Then: 기존 토큰으로 인증 불가, 다시 로그인도 불가
+        assertThatThrownBy(() -> jwtTokenProvider.getAuthentication(token))
+                .isInstanceOf(DisabledException.class);
+        assertThatThrownBy(() -> authService.login(LoginRequest.builder()
+                .email("deactivate@example.com")
+                .password("password123")
+                .build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("비활성화된 계정입니다");
+    }
+
+    @Test
+    @DisplayName("재시작 후 목록 복원 시 비활성화된 계정의 기존 토큰 거부")
+    void reloadedRegistryRejectsDeactivatedToken() {
+        // Given: 토큰 발급 후 다른 인스턴스(또는 재시작 전)에서 비활성화 → 이 인스턴스 목록에는 없음
+        AuthResponse signup = authService.signup(SignupRequest.builder()
+                .email("restart@example.com")
+                .password("password123")
+                .name("재시작유저")
+                .build());
+        String token = signup.getToken();
+
+        User user = userRepository.findById(signup.getUser().getId()).orElseThrow();
+        user.deactivte();
+        userRepository.saveAndFlush(user);
+        assertThat(jwtTokenProvider.getAuthentication(token).isAuthenticated()).isTrue();
+
+        // When: 기동 시 목록 복원
+        revokedUserRegistry.load();
+
+        // Then: 기존 토큰으로 인증 불가
+        assertThatThrownBy(() -> jwtTokenProvider.getAuthentication(token))
+                .isInstanceOf(DisabledException.class);
+    }
+}
@@ -0,0 +1,59 @@
+package com.tripmate.backend.service;
+
+import com.tripmate.backend.dto.response.TripAnalyticsResponse;
+import com.tripmate.backend.dto.response.TripResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * TripAnalyticsService 테스트
+ *
+ * 비공개 여행은 내 통계에만 들어가고 전체 통계에는 보이지 않아야 함
+ */
+class TripAnalyticsServiceTest {
+
+    private static TripResponse trip(long id, long ownerId, String destination, boolean isPublic) {
+        return TripResponse.builder()
+                .id(id)
+                .ownerId(ownerId)
+                .destination(destination)
+                .startDate(LocalDate.of(2026, 4, 1))
+                .endDate(LocalDate.of(2026, 4, 3))
+                .budget(100000.0)
+                .isPublic(isPublic)
+                .build();
+    }
+
+    @Test
+    @DisplayName("전체 통계는 공개 여행만, 공개 여부가 바뀌면 옮겨짐")
+    void globalStatsOnlyCountPublicTrips() {
+        // Given: 공개 여행 1개 + 비공개 여행 1개
+        TripAnalyticsService service = new TripAnalyticsService(null);
+        service.apply(trip(1L, 10L, "제주", true));
+        service.apply(trip(2L, 20L, "비밀 여행지", false));
+
+        // Then: 전체 통계에는 공개 여행만, 내 통계에는 비공개 여행도
+        assertThat(service.getGlobalStats(10).getTripCount()).isEqualTo(1);
+        assertThat(service.getGlobalStats(10).getTopDestinations())
+                .extracting(TripAnalyticsResponse.DestinationCount::getDestination)
+                .containsExactly("제주");
+        assertThat(service.getUserStats(20L, 10).getTripCount()).isEqualTo(1);
+
+        // When: 비공개 여행을 공개로 전환
+        service.apply(trip(2L, 20L, "비밀 여행지", true));
+
+        // Then: 전체 통계에 추가
+        assertThat(service.getGlobalStats(10).getTripCount()).isEqualTo(2);
+
+        // When: 다시 비공개로 전환
+        service.apply(trip(2L, 20L, "비밀 여행지", false));
+
+        // Then: 전체 통계에서 빠지고 내 통계는 그대로
+        assertThat(service.getGlobalStats(10).getTripCount()).isEqualTo(1);
+        assertThat(service.getUserStats(20L, 10).getTripCount()).isEqualTo(1);
+    }
+}